@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -23,19 +24,27 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    implementation(libs.caffeine)
+    implementation(libs.reactor.core)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    testImplementation(libs.hdrhistogram)
+    jmhImplementation(libs.spring.boot.starter.test)
 }
 
 // about source and compilation
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    // virtual thread (spring.threads.virtual.enabled) 사용을 위해 JDK 21
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    toolVersion = "0.8.11"
 }
 
 // bundling tasks
@@ -48,5 +57,45 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark", "loadtest")
+    }
+}
+// ./gradlew benchmark
+tasks.register<Test>("benchmark") {
+    description = "Runs @Tag(\"benchmark\") tests."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+// ./gradlew loadTest (-Ploadtest.rps=1000 -Ploadtest.duration-seconds=60 -Ploadtest.label=after -Ploadtest.baseline=build/reports/loadtest/before.json)
+tasks.register<Test>("loadTest") {
+    description = "Runs @Tag(\"loadtest\") tests against the app on a random port."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("loadtest")
+    }
+    // -Ploadtest.* 를 LoadTestSettings 가 읽는 시스템 프로퍼티로 넘긴다
+    systemProperties(project.properties.filterKeys { it.startsWith("loadtest.") })
+    outputs.upToDateWhen { false }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+// ./gradlew jmh (-Pjmh.includes=LockBenchmark)
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    // 테이블 throttle 을 끈 테스트 더블(src/test)을 벤치마크에서 사용
+    includeTests.set(true)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    findProperty("jmh.includes")?.let { includes.set(listOf(it.toString())) }
 }
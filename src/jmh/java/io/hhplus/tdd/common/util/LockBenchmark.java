@@ -0,0 +1,57 @@
+package io.hhplus.tdd.common.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lock.execute 처리량
+ * - users : 스레드들이 나눠 쓰는 유저 수. 1 이면 모든 스레드가 한 락을 두고 경쟁
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class LockBenchmark {
+
+    @Param({"PER_USER", "STRIPED", "REF_COUNTED"})
+    LockProperties.Mode mode;
+
+    @Param({"1", "16", "100000"})
+    int users;
+
+    @Param({"true", "false"})
+    boolean fair;
+
+    Lock lock;
+    long[] counters;
+
+    @Setup
+    public void setUp() {
+        LockProperties properties = new LockProperties();
+        properties.setMode(mode);
+        properties.setFair(fair);
+        lock = new Lock(properties);
+        counters = new long[users];
+    }
+
+    @Benchmark
+    public long execute() {
+        int userId = ThreadLocalRandom.current().nextInt(users);
+        return lock.execute(userId, () -> ++counters[userId]);
+    }
+}
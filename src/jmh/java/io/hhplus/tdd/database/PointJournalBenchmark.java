@@ -0,0 +1,79 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PointJournal 재시작 복구 시간 (레코드 수 / 스냅샷 유무)
+ * - snapshot=true 이면 마지막 10% 를 제외한 구간이 스냅샷으로 남아 있다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointJournalBenchmark {
+
+    private static final Duration SYNC_INTERVAL = Duration.ofHours(1);
+
+    @Param({"1000000", "10000000"})
+    int records;
+
+    @Param({"10000"})
+    int users;
+
+    @Param({"false", "true"})
+    boolean snapshot;
+
+    Path directory;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-journal-bench");
+        long snapshotAt = records - records / 10;
+        try (PointJournal journal = new PointJournal(directory, SYNC_INTERVAL, snapshot ? snapshotAt : 0)) {
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < records; i++) {
+                TransactionType type = (i / users) % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+                journal.append(new PointHistory(i + 1, i % users, 100L, type, now));
+                if (i + 1 == snapshotAt) {
+                    journal.sync();
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public long recover() {
+        try (PointJournal journal = new PointJournal(directory, SYNC_INTERVAL, 0)) {
+            return journal.size();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
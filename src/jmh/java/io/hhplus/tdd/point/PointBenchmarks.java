@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+
+/**
+ * 벤치마크용 PointService 조립
+ * 테이블은 throttle 없는 테스트 더블을 써서 sleep 이 아닌 CPU 비용을 측정한다.
+ */
+final class PointBenchmarks {
+
+    private PointBenchmarks() {
+    }
+
+    static PointService pointService(PointExecutionMode mode) {
+        return fixture(mode).pointService();
+    }
+
+    static PointServiceFixture fixture(PointExecutionMode mode) {
+        PointProperties properties = new PointProperties();
+        properties.setExecutionMode(mode);
+        return PointServiceFixture.of(new FastUserPointTable(), new FastPointHistoryTable(), properties);
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+
+/**
+ * MockMvc 를 통한 컨트롤러 경로 (요청 바인딩 + JSON 직렬화 포함) 처리량
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class PointControllerBenchmark {
+
+    static final int USERS = 1_000;
+
+    MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        PointServiceFixture fixture = PointBenchmarks.fixture(PointExecutionMode.LOCK);
+        PointService pointService = fixture.pointService();
+        for (long userId = 1; userId <= USERS; userId++) {
+            pointService.charge(userId, 50_000L);
+        }
+        PointController pointController = new PointController(pointService, fixture.idempotencyStore(), new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(pointController).build();
+    }
+
+    @Benchmark
+    public int point() throws Exception {
+        return mockMvc.perform(get("/point/{id}", userId()))
+            .andReturn().getResponse().getStatus();
+    }
+
+    /**
+     * 충전 후 같은 금액을 사용해서 잔액이 한도에 걸리지 않게 유지
+     */
+    @Benchmark
+    public int chargeThenUse() throws Exception {
+        long userId = userId();
+        int charged = dispatch(patch("/point/{id}/charge", userId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("100"));
+        int used = dispatch(patch("/point/{id}/use", userId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("100"));
+        return charged + used;
+    }
+
+    @Benchmark
+    public int histories() throws Exception {
+        return mockMvc.perform(get("/point/{id}/histories", userId()).param("limit", "20"))
+            .andReturn().getResponse().getStatus();
+    }
+
+    /**
+     * 충전/사용은 CompletableFuture 를 돌려주므로 async dispatch 까지 끝내야 응답 본문이 써진다
+     */
+    private int dispatch(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request).andReturn();
+        return mockMvc.perform(asyncDispatch(started)).andReturn().getResponse().getStatus();
+    }
+
+    private long userId() {
+        return ThreadLocalRandom.current().nextInt(USERS) + 1;
+    }
+}
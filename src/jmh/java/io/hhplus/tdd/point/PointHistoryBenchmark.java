@@ -0,0 +1,62 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 내역 크기에 따른 getHistories 비용 (전체 조회 / 첫 페이지 / 마지막 페이지)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointHistoryBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    int historySize;
+
+    long userId = 1L;
+    long lastCursor;
+    PointService pointService;
+
+    @Setup
+    public void setUp() {
+        pointService = PointBenchmarks.pointService(PointExecutionMode.LOCK);
+        for (int i = 0; i < historySize; i++) {
+            if (i % 2 == 0) {
+                pointService.charge(userId, 100L);
+            } else {
+                pointService.use(userId, 100L);
+            }
+        }
+        lastCursor = Math.max(0, historySize - 100);
+    }
+
+    @Benchmark
+    public List<PointHistory> all() {
+        return pointService.getHistories(userId);
+    }
+
+    @Benchmark
+    public PointHistoryPage firstPage() {
+        return pointService.getHistories(userId, null, 100, null);
+    }
+
+    @Benchmark
+    public PointHistoryPage lastPage() {
+        return pointService.getHistories(userId, lastCursor, 100, null);
+    }
+}
@@ -0,0 +1,78 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.response.ErrorCode;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 거절되는 충전/사용 요청 처리량 (할당량은 -prof gc 로 확인)
+ * - lessThan100 : 락 전에 금액 검사에서 거절
+ * - overBalance : 잔액 0 인 유저의 사용. 락을 잡고 잔액 규칙에서 거절
+ * - allocatedException : 비교용. 거절마다 stack trace 를 채운 예외를 새로 만들어 던지는 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class PointRejectionBenchmark {
+
+    static final int USERS = 10_000;
+
+    @Param({"LOCK", "GROUP_COMMIT", "CAS"})
+    PointExecutionMode mode;
+
+    PointService pointService;
+
+    @Setup
+    public void setUp() {
+        pointService = PointBenchmarks.pointService(mode);
+    }
+
+    @Benchmark
+    public ErrorCode lessThan100() {
+        return reject(userId(), 50L);
+    }
+
+    @Benchmark
+    public ErrorCode overBalance() {
+        return reject(userId(), 100L);
+    }
+
+    @Benchmark
+    public ErrorCode allocatedException() {
+        try {
+            throw new BaseException(ErrorCode.POINT_BALANCE_NEGATIVE);
+        } catch (BaseException e) {
+            return e.getErrorCode();
+        }
+    }
+
+    private ErrorCode reject(long userId, long amount) {
+        try {
+            pointService.use(userId, amount);
+            return null;
+        } catch (BaseException e) {
+            return e.getErrorCode();
+        }
+    }
+
+    private long userId() {
+        return ThreadLocalRandom.current().nextInt(USERS) + 1;
+    }
+}
@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PointService.charge / use 처리량
+ * - users = 1 : 한 유저에 몰리는 경우, 그 외 : 유저 전체에 고르게 분산
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class PointServiceBenchmark {
+
+    @Param({"LOCK", "GROUP_COMMIT", "CAS"})
+    PointExecutionMode mode;
+
+    @Param({"1", "10000"})
+    int users;
+
+    PointService pointService;
+
+    @Setup
+    public void setUp() {
+        pointService = PointBenchmarks.pointService(mode);
+        for (long userId = 1; userId <= users; userId++) {
+            pointService.charge(userId, 50_000L);
+        }
+    }
+
+    @Benchmark
+    public UserPoint charge() {
+        return call(true);
+    }
+
+    @Benchmark
+    public UserPoint use() {
+        return call(false);
+    }
+
+    @Benchmark
+    public UserPoint mixed() {
+        return call(ThreadLocalRandom.current().nextBoolean());
+    }
+
+    private UserPoint call(boolean charge) {
+        long userId = ThreadLocalRandom.current().nextInt(users) + 1;
+        try {
+            return charge ? pointService.charge(userId, 100L) : pointService.use(userId, 100L);
+        } catch (BaseException e) {
+            // 잔액 한도에 걸린 요청도 처리 비용에 포함
+            return null;
+        }
+    }
+}
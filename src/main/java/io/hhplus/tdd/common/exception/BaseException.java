@@ -1,11 +1,22 @@
 package io.hhplus.tdd.common.exception;
 
 import io.hhplus.tdd.common.response.ErrorCode;
+import java.util.EnumMap;
+import java.util.Map;
 import lombok.Getter;
 
 @Getter
 public class BaseException extends RuntimeException {
-    private ErrorCode errorCode;
+    // ErrorCode 마다 하나씩 미리 만들어 둔 stack trace 없는 예외 (of 로 꺼내 쓴다)
+    private static final Map<ErrorCode, BaseException> REJECTIONS = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            REJECTIONS.put(errorCode, new BaseException(errorCode, false));
+        }
+    }
+
+    private final ErrorCode errorCode;
 
     public BaseException(ErrorCode errorCode) {
         super(errorCode.getErrMsg());
@@ -16,4 +27,17 @@ public class BaseException extends RuntimeException {
         super(message);
         this.errorCode = errorCode;
     }
+
+    private BaseException(ErrorCode errorCode, boolean writableStackTrace) {
+        super(errorCode.getErrMsg(), null, false, writableStackTrace);
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * 규칙 위반으로 요청을 거절할 때 던지는 공유 예외. 거절마다 예외 생성 / stack trace 수집 비용이 들지 않는다
+     * 여러 스레드가 같은 인스턴스를 던지므로 cause / suppressed 를 붙일 수 없다 (stack trace 가 필요하면 생성자를 쓴다)
+     */
+    public static BaseException of(ErrorCode errorCode) {
+        return REJECTIONS.get(errorCode);
+    }
 }
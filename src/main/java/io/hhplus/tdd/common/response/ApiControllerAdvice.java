@@ -1,5 +1,10 @@
 package io.hhplus.tdd.common.response;
 
+import io.hhplus.tdd.common.exception.BaseException;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -7,8 +12,40 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    // 429 / 503 으로 거절한 요청에 돌려주는 재시도 대기 시간(초)
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final ResponseEntity<ErrorResponse> INTERNAL_ERROR =
+        ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
+
+    // 기본 메시지로 거절한 요청의 응답은 ErrorCode 마다 미리 만들어 두고 재사용한다 (ResponseEntity 는 불변)
+    private final Map<ErrorCode, ResponseEntity<ErrorResponse>> responses = new EnumMap<>(ErrorCode.class);
+
+    ApiControllerAdvice() {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            responses.put(errorCode, response(errorCode, errorCode.getErrMsg()));
+        }
+    }
+
+    @ExceptionHandler(value = BaseException.class)
+    public ResponseEntity<ErrorResponse> handleBaseException(BaseException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        if (errorCode.getErrMsg().equals(e.getMessage())) {
+            return responses.get(errorCode);
+        }
+        return response(errorCode, e.getMessage());
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
-        return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
+        return INTERNAL_ERROR;
+    }
+
+    private static ResponseEntity<ErrorResponse> response(ErrorCode errorCode, String message) {
+        HttpStatus status = errorCode.getHttpStatus();
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (status == HttpStatus.TOO_MANY_REQUESTS || status == HttpStatus.SERVICE_UNAVAILABLE) {
+            response.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        }
+        return response.body(new ErrorResponse(errorCode.name(), message));
     }
 }
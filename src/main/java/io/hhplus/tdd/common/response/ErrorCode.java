@@ -14,6 +14,16 @@ public enum ErrorCode {
     POINT_BALANCE_OVER(HttpStatus.CONFLICT, "포인트 잔액이 최대를 초과헀습니다."),
     POINT_BALANCE_NEGATIVE(HttpStatus.CONFLICT, "포인트 잔액은 0보다 커야 합니다."),
     POINT_LESS_THAN_100(HttpStatus.BAD_REQUEST, "포인트 잔액은 최소 100원을 사용해야합니다."),
+    POINT_TRANSFER_INVALID(HttpStatus.BAD_REQUEST, "송금은 자신이 아닌 1~100명에게 최대 잔액 이하로 보낼 수 있습니다."),
+    POINT_TRANSFER_UNSUPPORTED(HttpStatus.NOT_IMPLEMENTED, "현재 실행 모드에서는 송금을 지원하지 않습니다."),
+
+    // idempotency
+    IDEMPOTENCY_KEY_INVALID(HttpStatus.BAD_REQUEST, "Idempotency-Key 는 1~255자여야 합니다."),
+    IDEMPOTENCY_KEY_MISMATCH(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 요청을 보냈습니다."),
+
+    // lock
+    LOCK_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "같은 사용자의 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    LOCK_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "요청을 제시간에 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
         ;
 
     private final HttpStatus httpStatus;
@@ -0,0 +1,64 @@
+package io.hhplus.tdd.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 값이 가장 많이 누적된 key 상위 N 개를 근사로 추적한다
+ * - 고정 크기 슬롯에 key 해시로 누적하고, 다른 key 와 부딪히면 누적값이 작은 쪽을 밀어낸다
+ * - add 는 락과 객체 할당 없이 동작하고, 정렬은 top 을 조회할 때만 한다
+ */
+public class HotKeyTracker {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final AtomicLongArray keys;
+    private final AtomicLongArray values;
+    private final int shift;
+
+    public HotKeyTracker(int slots) {
+        if (slots <= 1 || Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("slots 는 2의 거듭제곱이어야 합니다: " + slots);
+        }
+        this.keys = new AtomicLongArray(slots);
+        this.values = new AtomicLongArray(slots);
+        this.shift = 64 - Integer.numberOfTrailingZeros(slots);
+        for (int i = 0; i < slots; i++) {
+            keys.set(i, EMPTY);
+        }
+    }
+
+    public void add(long key, long value) {
+        int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+        long current = keys.get(slot);
+        if (current == key) {
+            values.addAndGet(slot, value);
+        } else if (current == EMPTY && keys.compareAndSet(slot, EMPTY, key)) {
+            values.addAndGet(slot, value);
+        } else if (values.get(slot) <= value && keys.compareAndSet(slot, current, key)) {
+            values.set(slot, value);
+        }
+    }
+
+    /**
+     * 누적값 상위 n 개 (내림차순)
+     */
+    public List<Entry> top(int n) {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < keys.length(); i++) {
+            long key = keys.get(i);
+            if (key != EMPTY) {
+                entries.add(new Entry(key, values.get(i)));
+            }
+        }
+        entries.sort(Comparator.comparingLong(Entry::value).reversed());
+        return entries.subList(0, Math.min(n, entries.size()));
+    }
+
+    public record Entry(
+            long key,
+            long value
+    ) {
+    }
+}
@@ -1,51 +1,155 @@
 package io.hhplus.tdd.common.util;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.ReentrantLock;
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.response.ErrorCode;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+/**
+ * 유저 단위 락
+ * 락 테이블은 모두 ReentrantLock 으로 대기하므로, virtual thread 가 기다리는 동안 carrier 스레드를 붙잡지 않는다.
+ * (대기 경로에 synchronized 를 넣지 않는다)
+ * 여러 유저의 락은 executeAll 로 락 테이블이 정한 순서대로 잡아서 교착을 막는다.
+ * 인기 유저에 요청이 몰리면 대기열 길이(lock.max-queue-length) / 대기 시간(lock.acquire-timeout) 한도에서
+ * 기다리지 않고 BaseException(LOCK_QUEUE_FULL / LOCK_TIMEOUT) 으로 바로 거절한다.
+ */
 @Component
 public class Lock {
-    private final ConcurrentMap<Long, ReentrantLock> lockTable = new ConcurrentHashMap<>();
+    private final LockTable lockTable;
+    private final long acquireTimeoutNanos;
+    private final int maxQueueLength;
+    private final LongAdder queueFullRejections = new LongAdder();
+    private final LongAdder timeoutRejections = new LongAdder();
+    private volatile LockObserver observer = LockObserver.NONE;
 
-    private ReentrantLock getLock(long userId) {
-        return lockTable.computeIfAbsent(userId, id -> new ReentrantLock(true));
+    public Lock() {
+        this(new LockProperties());
+    }
+
+    @Autowired
+    public Lock(LockProperties properties) {
+        this.lockTable = switch (properties.getMode()) {
+            case STRIPED -> new StripedLockTable(properties.getStripes(), properties.isFair());
+            case REF_COUNTED -> new RefCountedLockTable(properties.isFair());
+            default -> new PerUserLockTable(properties.isFair());
+        };
+        this.acquireTimeoutNanos = properties.getAcquireTimeout().toNanos();
+        this.maxQueueLength = properties.getMaxQueueLength();
     }
 
     public void lock(long userId) {
-        getLock(userId).lock();
+        lockTable.lock(userId);
     }
 
     public void unlock(long userId) {
-        ReentrantLock lock = lockTable.get(userId);
-        // 잠겨있지 않은데 unlock을 호출하면 오류
-        if (lock != null && lock.isHeldByCurrentThread()) {
-            lock.unlock();
-        }
+        lockTable.unlock(userId);
     }
 
     /**
      * 락 + 실행을 한 번에 감사는 execute
      */
     public <T> T execute(long userId, Supplier<T> task) {
-        ReentrantLock lock = getLock(userId);
-        lock.lock();
+        long acquired = acquire(userId);
         try {
             return task.get();
         } finally {
-            lock.unlock();
+            release(userId, acquired);
+        }
+    }
+
+    /**
+     * 여러 유저의 락을 정해진 순서(락 단위 → userId)로 모두 잡고 실행한다. 중복된 userId 는 한 번만 잡는다
+     */
+    public <T> T executeAll(long[] userIds, Supplier<T> task) {
+        long[] ordered = Arrays.stream(userIds)
+            .distinct()
+            .boxed()
+            .sorted(Comparator.comparingLong(lockTable::orderOf).thenComparingLong(Long::longValue))
+            .mapToLong(Long::longValue)
+            .toArray();
+        long[] acquired = new long[ordered.length];
+        int held = 0;
+        try {
+            while (held < ordered.length) {
+                acquired[held] = acquire(ordered[held]);
+                held++;
+            }
+            return task.get();
+        } finally {
+            for (int i = held - 1; i >= 0; i--) {
+                release(ordered[i], acquired[i]);
+            }
         }
     }
 
     public void run(long userId, Runnable task) {
-        ReentrantLock lock = getLock(userId);
-        lock.lock();
+        long acquired = acquire(userId);
         try {
             task.run();
         } finally {
-            lock.unlock();
+            release(userId, acquired);
+        }
+    }
+
+    /**
+     * 락 대기/점유 시간을 받을 observer 등록
+     */
+    public void setObserver(LockObserver observer) {
+        this.observer = observer;
+    }
+
+    private long acquire(long userId) {
+        long requested = System.nanoTime();
+        if (maxQueueLength > 0 && queueLength(userId) >= maxQueueLength) {
+            queueFullRejections.increment();
+            throw BaseException.of(ErrorCode.LOCK_QUEUE_FULL);
+        }
+        if (acquireTimeoutNanos > 0) {
+            tryLock(userId);
+        } else {
+            lockTable.lock(userId);
         }
+        long acquired = System.nanoTime();
+        observer.acquired(userId, acquired - requested);
+        return acquired;
+    }
+
+    /**
+     * userId 의 락을 기다리는 요청 수 (추정치)
+     */
+    int queueLength(long userId) {
+        return lockTable.queueLength(userId);
+    }
+
+    private void tryLock(long userId) {
+        boolean locked;
+        try {
+            locked = lockTable.tryLock(userId, acquireTimeoutNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            locked = false;
+        }
+        if (!locked) {
+            timeoutRejections.increment();
+            throw BaseException.of(ErrorCode.LOCK_TIMEOUT);
+        }
+    }
+
+    private void release(long userId, long acquired) {
+        lockTable.unlock(userId);
+        observer.released(userId, System.nanoTime() - acquired);
+    }
+
+    /**
+     * 현재 락 개수, stripe 충돌 대기 시간, 한도 초과로 거절한 횟수
+     */
+    public LockStats stats() {
+        LockStats table = lockTable.stats();
+        return new LockStats(table.liveLocks(), table.collisions(), table.collisionWaitNanos(),
+            queueFullRejections.sum(), timeoutRejections.sum());
     }
 }
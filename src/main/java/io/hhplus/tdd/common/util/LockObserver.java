@@ -0,0 +1,16 @@
+package io.hhplus.tdd.common.util;
+
+/**
+ * Lock.execute / run 의 대기 시간과 점유 시간을 받는 콜백
+ * 락을 잡은 요청마다 호출되므로 구현은 할당 없이 가볍게 유지해야 한다.
+ */
+public interface LockObserver {
+    LockObserver NONE = new LockObserver() {
+    };
+
+    default void acquired(long userId, long waitNanos) {
+    }
+
+    default void released(long userId, long holdNanos) {
+    }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.common.util;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 유저 락 설정 (application.yml 의 lock.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lock")
+public class LockProperties {
+    private Mode mode = Mode.PER_USER;
+    // 공정(fair) 락 여부
+    private boolean fair = true;
+    // STRIPED 모드의 락 개수. 2의 거듭제곱이어야 한다
+    private int stripes = 1024;
+    // 락 획득 대기 한도. 0 이면 잡을 때까지 기다린다
+    private Duration acquireTimeout = Duration.ZERO;
+    // 한 유저의 락을 기다릴 수 있는 최대 요청 수 (STRIPED 도 stripe 가 아니라 유저 단위). 0 이면 제한하지 않는다
+    private int maxQueueLength = 0;
+
+    /**
+     * - PER_USER : 유저마다 락 하나, 만든 락은 계속 유지 (기존 방식)
+     * - STRIPED : 고정 개수의 락을 userId 해시로 나눠 쓴다. 메모리는 일정하지만 다른 유저끼리 기다릴 수 있다
+     * - REF_COUNTED : 유저마다 락 하나, 잡고 있거나 기다리는 스레드가 없으면 바로 제거
+     */
+    public enum Mode {
+        PER_USER, STRIPED, REF_COUNTED
+    }
+}
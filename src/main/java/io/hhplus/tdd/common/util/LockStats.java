@@ -0,0 +1,21 @@
+package io.hhplus.tdd.common.util;
+
+/**
+ * 락 테이블 통계
+ * - liveLocks : 현재 메모리에 있는 락 개수
+ * - collisions : 다른 유저가 잡은 stripe 락을 기다린 횟수 (STRIPED 모드)
+ * - collisionWaitNanos : 위 대기 시간의 합
+ * - queueFullRejections : 대기열이 lock.max-queue-length 에 차서 기다리지 않고 거절한 횟수
+ * - timeoutRejections : lock.acquire-timeout 안에 락을 잡지 못해 거절한 횟수
+ */
+public record LockStats(
+        long liveLocks,
+        long collisions,
+        long collisionWaitNanos,
+        long queueFullRejections,
+        long timeoutRejections
+) {
+    LockStats(long liveLocks, long collisions, long collisionWaitNanos) {
+        this(liveLocks, collisions, collisionWaitNanos, 0L, 0L);
+    }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.common.util;
+
+/**
+ * userId 에 대응하는 락을 관리하는 방식 (LockProperties.Mode 별 구현)
+ */
+interface LockTable {
+
+    void lock(long userId);
+
+    /**
+     * timeoutNanos 안에 잡지 못하면 false
+     */
+    boolean tryLock(long userId, long timeoutNanos) throws InterruptedException;
+
+    /**
+     * userId 의 락을 기다리는 스레드 수 (추정치)
+     */
+    int queueLength(long userId);
+
+    /**
+     * 현재 스레드가 잡고 있지 않으면 아무것도 하지 않는다
+     */
+    void unlock(long userId);
+
+    LockStats stats();
+
+    /**
+     * 여러 유저의 락을 잡을 때의 정렬 기준. 실제로 잡는 락 단위의 순서여야 교착이 생기지 않는다
+     */
+    default long orderOf(long userId) {
+        return userId;
+    }
+}
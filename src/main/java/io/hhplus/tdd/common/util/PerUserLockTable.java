@@ -0,0 +1,49 @@
+package io.hhplus.tdd.common.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저마다 락을 하나씩 만들고 계속 유지한다
+ */
+class PerUserLockTable implements LockTable {
+    private final ConcurrentMap<Long, ReentrantLock> lockTable = new ConcurrentHashMap<>();
+    private final boolean fair;
+
+    PerUserLockTable(boolean fair) {
+        this.fair = fair;
+    }
+
+    @Override
+    public void lock(long userId) {
+        lockTable.computeIfAbsent(userId, id -> new ReentrantLock(fair)).lock();
+    }
+
+    @Override
+    public boolean tryLock(long userId, long timeoutNanos) throws InterruptedException {
+        return lockTable.computeIfAbsent(userId, id -> new ReentrantLock(fair))
+            .tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int queueLength(long userId) {
+        ReentrantLock lock = lockTable.get(userId);
+        return lock == null ? 0 : lock.getQueueLength();
+    }
+
+    @Override
+    public void unlock(long userId) {
+        ReentrantLock lock = lockTable.get(userId);
+        // 잠겨있지 않은데 unlock을 호출하면 오류
+        if (lock != null && lock.isHeldByCurrentThread()) {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public LockStats stats() {
+        return new LockStats(lockTable.size(), 0, 0);
+    }
+}
@@ -0,0 +1,82 @@
+package io.hhplus.tdd.common.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저마다 락을 만들되, 잡고 있거나 기다리는 스레드 수를 세서 0 이 되면 테이블에서 제거한다
+ * 참조 수 증감은 ConcurrentHashMap.compute 안에서만 하므로 제거와 재사용이 겹치지 않는다
+ */
+class RefCountedLockTable implements LockTable {
+    private final ConcurrentMap<Long, RefLock> lockTable = new ConcurrentHashMap<>();
+    private final boolean fair;
+
+    RefCountedLockTable(boolean fair) {
+        this.fair = fair;
+    }
+
+    @Override
+    public void lock(long userId) {
+        retain(userId).lock.lock();
+    }
+
+    @Override
+    public boolean tryLock(long userId, long timeoutNanos) throws InterruptedException {
+        RefLock ref = retain(userId);
+        boolean acquired = false;
+        try {
+            acquired = ref.lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+            return acquired;
+        } finally {
+            // 시간 초과 / 인터럽트로 포기하면 올려 둔 참조 수를 되돌린다
+            if (!acquired) {
+                release(userId);
+            }
+        }
+    }
+
+    @Override
+    public int queueLength(long userId) {
+        RefLock ref = lockTable.get(userId);
+        return ref == null ? 0 : ref.lock.getQueueLength();
+    }
+
+    @Override
+    public void unlock(long userId) {
+        RefLock ref = lockTable.get(userId);
+        if (ref == null || !ref.lock.isHeldByCurrentThread()) {
+            return;
+        }
+        ref.lock.unlock();
+        release(userId);
+    }
+
+    private RefLock retain(long userId) {
+        return lockTable.compute(userId, (id, current) -> {
+            RefLock lock = current != null ? current : new RefLock(fair);
+            lock.refs++;
+            return lock;
+        });
+    }
+
+    private void release(long userId) {
+        lockTable.computeIfPresent(userId, (id, current) -> --current.refs == 0 ? null : current);
+    }
+
+    @Override
+    public LockStats stats() {
+        return new LockStats(lockTable.size(), 0, 0);
+    }
+
+    private static class RefLock {
+        private final ReentrantLock lock;
+        // compute 안에서만 읽고 쓴다
+        private int refs;
+
+        RefLock(boolean fair) {
+            this.lock = new ReentrantLock(fair);
+        }
+    }
+}
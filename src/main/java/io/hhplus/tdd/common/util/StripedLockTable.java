@@ -0,0 +1,151 @@
+package io.hhplus.tdd.common.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정 개수(2의 거듭제곱)의 락을 userId 해시로 나눠 쓴다
+ * 같은 stripe 의 다른 유저를 기다린 경우를 충돌로 집계한다
+ */
+class StripedLockTable implements LockTable {
+    private static final long NO_OWNER = Long.MIN_VALUE;
+
+    private final ReentrantLock[] stripes;
+    private final AtomicLongArray owners;
+    private final int shift;
+    private final LongAdder collisions = new LongAdder();
+    private final LongAdder collisionWaitNanos = new LongAdder();
+    // 유저별 대기 스레드 수 (lock.max-queue-length 는 stripe 가 아니라 유저 단위로 적용한다)
+    private final ConcurrentMap<Long, Integer> waiters = new ConcurrentHashMap<>();
+
+    StripedLockTable(int size, boolean fair) {
+        if (size <= 0 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("lock.stripes 는 2의 거듭제곱이어야 합니다: " + size);
+        }
+        this.stripes = new ReentrantLock[size];
+        this.owners = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock(fair);
+            owners.set(i, NO_OWNER);
+        }
+        this.shift = 64 - Integer.numberOfTrailingZeros(size);
+    }
+
+    /**
+     * userId 가 쓰는 stripe 번호 (fibonacci hashing)
+     */
+    int stripeOf(long userId) {
+        return shift == 64 ? 0 : (int) ((userId * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    @Override
+    public void lock(long userId) {
+        int index = stripeOf(userId);
+        ReentrantLock lock = stripes[index];
+        if (!tryLockNow(lock)) {
+            long owner = owners.get(index);
+            long started = System.nanoTime();
+            enqueue(userId);
+            try {
+                lock.lock();
+            } finally {
+                dequeue(userId);
+            }
+            if (owner != userId && owner != NO_OWNER) {
+                collisions.increment();
+                collisionWaitNanos.add(System.nanoTime() - started);
+            }
+        }
+        if (lock.getHoldCount() == 1) {
+            owners.set(index, userId);
+        }
+    }
+
+    @Override
+    public boolean tryLock(long userId, long timeoutNanos) throws InterruptedException {
+        int index = stripeOf(userId);
+        ReentrantLock lock = stripes[index];
+        if (!tryLockNow(lock)) {
+            long owner = owners.get(index);
+            long started = System.nanoTime();
+            boolean locked;
+            enqueue(userId);
+            try {
+                locked = lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+            } finally {
+                dequeue(userId);
+            }
+            if (!locked) {
+                return false;
+            }
+            if (owner != userId && owner != NO_OWNER) {
+                collisions.increment();
+                collisionWaitNanos.add(System.nanoTime() - started);
+            }
+        }
+        if (lock.getHoldCount() == 1) {
+            owners.set(index, userId);
+        }
+        return true;
+    }
+
+    /**
+     * 이 유저의 락을 기다리는 스레드만 센다 (같은 stripe 의 다른 유저가 몰려도 이 유저는 거절되지 않는다)
+     */
+    @Override
+    public int queueLength(long userId) {
+        return waiters.getOrDefault(userId, 0);
+    }
+
+    // 대기 없이 잡아 본다. tryLock() 은 fair 설정을 무시하고 대기 중인 스레드를 앞지르므로, 공정 락이면 시간 제한 버전을 쓴다
+    private static boolean tryLockNow(ReentrantLock lock) {
+        if (!lock.isFair()) {
+            return lock.tryLock();
+        }
+        try {
+            return lock.tryLock(0L, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 대기 수는 바로 잡지 못한 경우에만 센다 (경합이 없으면 map 을 건드리지 않는다)
+    private void enqueue(long userId) {
+        waiters.merge(userId, 1, Integer::sum);
+    }
+
+    private void dequeue(long userId) {
+        waiters.computeIfPresent(userId, (id, count) -> count == 1 ? null : count - 1);
+    }
+
+    @Override
+    public void unlock(long userId) {
+        int index = stripeOf(userId);
+        ReentrantLock lock = stripes[index];
+        if (!lock.isHeldByCurrentThread()) {
+            return;
+        }
+        if (lock.getHoldCount() == 1) {
+            owners.set(index, NO_OWNER);
+        }
+        lock.unlock();
+    }
+
+    /**
+     * 유저 순서가 아니라 stripe 순서로 잡아야 한다 (작은 userId 가 큰 stripe 를 쓸 수 있다)
+     */
+    @Override
+    public long orderOf(long userId) {
+        return stripeOf(userId);
+    }
+
+    @Override
+    public LockStats stats() {
+        return new LockStats(stripes.length, collisions.sum(), collisionWaitNanos.sum());
+    }
+}
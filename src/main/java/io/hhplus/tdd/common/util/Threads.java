@@ -0,0 +1,22 @@
+package io.hhplus.tdd.common.util;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 작업 스레드 생성
+ * virtual 이면 virtual thread 를 만든다. 테이블 호출처럼 오래 대기하는 작업을 스레드 수 제한 없이 돌릴 때 사용
+ */
+public final class Threads {
+
+    private Threads() {
+    }
+
+    /**
+     * name-0, name-1 ... 순서로 이름을 붙이는 ThreadFactory
+     */
+    public static ThreadFactory factory(String name, boolean virtual) {
+        return virtual
+            ? Thread.ofVirtual().name(name + "-", 0).factory()
+            : Thread.ofPlatform().name(name + "-", 0).factory();
+    }
+}
@@ -0,0 +1,213 @@
+package io.hhplus.tdd.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (hierarchical timing wheel)
+ * - 단계마다 wheelSize 개의 칸이 있고, 윗 단계 칸 하나의 폭은 아래 단계 한 바퀴다 (tick, tick x wheelSize, ...)
+ * - 항목은 마감 시각이 들어가는 가장 낮은 단계의 칸에 넣고, 시계가 윗 단계 칸에 닿으면 그 칸의 항목을 아래 단계로 나눠 넣는다
+ * - 추가 / 제거는 O(1), advance 는 지나간 tick 수 + 만료되는 항목 수에 비례한다 (전체 항목 수와 무관)
+ * - 마감 시각보다 먼저 만료시키지 않고, 늦어도 다음 tick 에 만료시킨다
+ * 항목이 Entry 를 상속해서 연결 정보를 직접 들고 있으므로 항목마다 객체를 더 만들지 않는다.
+ * 스레드에 안전하지 않으므로 호출하는 쪽에서 잠근다.
+ */
+public class TimingWheel<E extends TimingWheel.Entry> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    // 0 단계부터. 윗 단계는 필요할 때 만든다
+    private final List<Bucket[]> levels = new ArrayList<>();
+    private final List<Long> ticks = new ArrayList<>();
+    // 0 단계 시계 (tickMillis 의 배수)
+    private long currentTime;
+    private int size;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tick 은 0 보다, wheelSize 는 1 보다 커야 합니다: " + tickMillis + ", " + wheelSize);
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        addLevel(tickMillis);
+    }
+
+    /**
+     * 항목을 건다. 마감 시각이 이미 지났으면 걸지 않고 false
+     */
+    public boolean add(E element) {
+        Entry entry = element;
+        if (entry.bucket != null) {
+            throw new IllegalStateException("이미 휠에 걸린 항목입니다.");
+        }
+        if (entry.deadline <= currentTime) {
+            return false;
+        }
+        place(entry);
+        size++;
+        return true;
+    }
+
+    /**
+     * 걸려 있는 항목을 뺀다. 이미 만료되었거나 빠진 항목이면 false
+     */
+    public boolean remove(E element) {
+        Entry entry = element;
+        if (entry.bucket == null) {
+            return false;
+        }
+        entry.bucket.unlink(entry);
+        size--;
+        return true;
+    }
+
+    /**
+     * 시계를 now 까지 tick 단위로 진행하고, 마감 시각이 지난 항목을 expired 로 넘긴다 (넘긴 항목은 휠에서 빠진다)
+     */
+    @SuppressWarnings("unchecked")
+    public void advance(long now, Consumer<? super E> expired) {
+        long target = now - Math.floorMod(now, tickMillis);
+        while (currentTime < target) {
+            if (size == 0) {
+                currentTime = target;
+                return;
+            }
+            currentTime += tickMillis;
+            // 윗 단계부터 시계가 칸 경계에 닿은 칸을 아래로 나눠 넣고, 마지막으로 0 단계 칸을 만료시킨다
+            for (int level = levels.size() - 1; level >= 0; level--) {
+                long tick = ticks.get(level);
+                if (currentTime % tick != 0) {
+                    continue;
+                }
+                Entry entry = bucket(level, currentTime / tick).takeAll();
+                while (entry != null) {
+                    Entry next = entry.next;
+                    entry.next = null;
+                    if (entry.deadline <= currentTime) {
+                        size--;
+                        expired.accept((E) entry);
+                    } else {
+                        place(entry);
+                    }
+                    entry = next;
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long currentTime() {
+        return currentTime;
+    }
+
+    /**
+     * 마감 시각이 들어가는 가장 낮은 단계의 칸에 넣는다
+     * 0 단계는 올림한 칸(마감 시각 이후에 만료), 윗 단계는 내림한 칸(마감 시각 전에 아래로 내려옴)에 넣는다
+     */
+    private void place(Entry entry) {
+        long deadline = entry.deadline;
+        long slot = -Math.floorDiv(-deadline, tickMillis);
+        if (slot - currentTime / tickMillis <= wheelSize) {
+            bucket(0, slot).link(entry);
+            return;
+        }
+        for (int level = 1; ; level++) {
+            if (level == levels.size()) {
+                addLevel(ticks.get(level - 1) * wheelSize);
+            }
+            long tick = ticks.get(level);
+            slot = Math.floorDiv(deadline, tick);
+            if (slot - Math.floorDiv(currentTime, tick) <= wheelSize) {
+                bucket(level, slot).link(entry);
+                return;
+            }
+        }
+    }
+
+    private Bucket bucket(int level, long slot) {
+        return levels.get(level)[(int) Math.floorMod(slot, (long) wheelSize)];
+    }
+
+    private void addLevel(long tick) {
+        Bucket[] buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket();
+        }
+        levels.add(buckets);
+        ticks.add(tick);
+    }
+
+    /**
+     * 휠에 거는 항목. 마감 시각과 칸 안의 연결 정보를 들고 있다
+     */
+    public abstract static class Entry {
+        private final long deadline;
+        private Bucket bucket;
+        private Entry prev;
+        private Entry next;
+
+        protected Entry(long deadline) {
+            this.deadline = deadline;
+        }
+
+        public long deadline() {
+            return deadline;
+        }
+
+        /**
+         * 휠에 걸려 있는지 (만료되어 넘겨졌거나 빠졌으면 false)
+         */
+        public boolean scheduled() {
+            return bucket != null;
+        }
+    }
+
+    /**
+     * 칸 하나. 항목을 양방향으로 연결해서 중간 항목도 O(1) 로 뺀다
+     */
+    private static final class Bucket {
+        private Entry head;
+
+        void link(Entry entry) {
+            entry.bucket = this;
+            entry.prev = null;
+            entry.next = head;
+            if (head != null) {
+                head.prev = entry;
+            }
+            head = entry;
+        }
+
+        void unlink(Entry entry) {
+            if (entry.prev != null) {
+                entry.prev.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.prev = entry.prev;
+            }
+            entry.bucket = null;
+            entry.prev = null;
+            entry.next = null;
+        }
+
+        /**
+         * 모든 항목을 떼어 내고 첫 항목을 돌려준다 (next 로 이어서 읽는다)
+         */
+        Entry takeAll() {
+            Entry first = head;
+            head = null;
+            for (Entry entry = first; entry != null; entry = entry.next) {
+                entry.bucket = null;
+                entry.prev = null;
+            }
+            return first;
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 포인트 내역을 고정 길이 레코드로 파일 끝에 이어 쓰는 저널 (재시작 시 잔액 복구용)
+ * - 레코드는 memory-mapped 영역에 기록하고, fsync 는 syncInterval 마다 한 번에 모아서 한다 (group fsync)
+ * - 레코드가 snapshotInterval 건 쌓일 때마다 잔액 스냅샷을 남겨서, 복구 시 스냅샷 이후만 다시 읽는다
+ * - 파일 끝은 0 으로 채워져 있으므로, 종류(type)가 0 이거나 체크섬이 맞지 않는 레코드에서 복구를 멈춘다
+ *
+ * 복구한 잔액은 balances() 로 꺼내 쓰고, 테이블에는 직접 쓰지 않는다.
+ * fsync 동안 기다리는 virtual thread 가 carrier 스레드를 붙잡지 않도록 synchronized 대신 ReentrantLock 을 쓴다.
+ *
+ * append 는 PointLedger 가 유저 락을 잡은 채로 부르므로, lock 안에서는 레코드를 쓰고 위치만 옮긴다.
+ * 한 번 쓴 레코드는 바뀌지 않으므로 fsync(force) 와 스냅샷은 syncLock 만 잡고 lock 밖에서 한다.
+ * 스냅샷용 잔액(balances)은 기록할 때 갱신하지 않고, 스냅샷을 남길 때 지난번 이후의 레코드만 다시 읽어 반영한다.
+ */
+public class PointJournal implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointJournal.class);
+
+    // id(8) userId(8) amount(8) updateMillis(8) type(4) checksum(4)
+    static final int RECORD_BYTES = 40;
+    static final int DEFAULT_REGION_RECORDS = 1 << 20;
+    private static final long SNAPSHOT_MAGIC = 0x504F494E54534E50L;
+    private static final String JOURNAL_FILE = "point.journal";
+    private static final String SNAPSHOT_FILE = "point.snapshot";
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path journalPath;
+    private final Path snapshotPath;
+    private final FileChannel channel;
+    private final long regionBytes;
+    private final long snapshotInterval;
+    // syncLock 으로 보호, appliedPosition 까지의 레코드를 반영한 잔액
+    private final Map<Long, Long> balances = new HashMap<>();
+    private final ScheduledExecutorService syncer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    // 다시 매핑하면서 떼어낸 영역, 다음 sync 때 lock 밖에서 force 한다
+    private final List<MappedByteBuffer> retired = new ArrayList<>();
+
+    private MappedByteBuffer region;
+    private long regionStart;
+    // 기록된 레코드 수 (다음 레코드의 위치)
+    private long position;
+    // 아래 셋은 syncLock 으로 보호
+    private long syncedPosition;
+    private long snapshotPosition;
+    private long appliedPosition;
+    private boolean closed;
+
+    public PointJournal(Path directory, Duration syncInterval, long snapshotInterval) {
+        this(directory, syncInterval, snapshotInterval, DEFAULT_REGION_RECORDS);
+    }
+
+    PointJournal(Path directory, Duration syncInterval, long snapshotInterval, int regionRecords) {
+        this.journalPath = directory.resolve(JOURNAL_FILE);
+        this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        this.regionBytes = (long) regionRecords * RECORD_BYTES;
+        this.snapshotInterval = snapshotInterval;
+        try {
+            Files.createDirectories(directory);
+            this.channel = FileChannel.open(
+                journalPath,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            );
+            long started = System.nanoTime();
+            recover();
+            log.info("journal 복구 - 레코드: {}, 유저: {}, {}ms",
+                position, balances.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            mapRegion(position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-journal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalNanos = Math.max(1, syncInterval.toNanos());
+        syncer.scheduleWithFixedDelay(this::syncQuietly, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 내역 한 건을 기록한다. 디스크 반영은 다음 sync 때 이루어진다
+     */
+    public void append(PointHistory history) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("journal closed");
+            }
+            if (position * RECORD_BYTES >= regionStart + regionBytes) {
+                retired.add(region);
+                mapRegion(position);
+            }
+            int offset = (int) (position * RECORD_BYTES - regionStart);
+            int type = history.type().ordinal() + 1;
+            region.putLong(offset, history.id());
+            region.putLong(offset + 8, history.userId());
+            region.putLong(offset + 16, history.amount());
+            region.putLong(offset + 24, history.updateMillis());
+            region.putInt(offset + 32, type);
+            region.putInt(offset + 36, checksum(history.id(), history.userId(), history.amount(), history.updateMillis(), type));
+            position++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지금까지 기록한 레코드를 디스크에 반영하고, 필요하면 스냅샷을 남긴다
+     */
+    public void sync() {
+        syncLock.lock();
+        try {
+            MappedByteBuffer current;
+            List<MappedByteBuffer> unmapped;
+            long syncTo;
+            lock.lock();
+            try {
+                if (closed || position == syncedPosition) {
+                    return;
+                }
+                current = region;
+                syncTo = position;
+                unmapped = new ArrayList<>(retired);
+                retired.clear();
+            } finally {
+                lock.unlock();
+            }
+            unmapped.forEach(MappedByteBuffer::force);
+            current.force();
+            syncedPosition = syncTo;
+            if (snapshotInterval > 0 && syncTo - snapshotPosition >= snapshotInterval) {
+                replay(syncTo);
+                writeSnapshot(syncTo, balances);
+                snapshotPosition = syncTo;
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 복구 및 기록 결과로 계산된 유저별 잔액
+     */
+    public Map<Long, Long> balances() {
+        syncLock.lock();
+        try {
+            long to;
+            lock.lock();
+            try {
+                to = closed ? appliedPosition : position;
+            } finally {
+                lock.unlock();
+            }
+            replay(to);
+            return new HashMap<>(balances);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 기록된 레코드 수
+     */
+    public long size() {
+        lock.lock();
+        try {
+            return position;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        syncer.shutdown();
+        sync();
+        syncLock.lock();
+        lock.lock();
+        try {
+            closed = true;
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+            syncLock.unlock();
+        }
+    }
+
+    private void recover() throws IOException {
+        appliedPosition = readSnapshot();
+        snapshotPosition = appliedPosition;
+
+        long fileRecords = channel.size() / RECORD_BYTES;
+        scan(fileRecords);
+        position = appliedPosition;
+        syncedPosition = position;
+        // 깨진 레코드 뒤에 남은 내용이 다음 복구에 섞이지 않도록 잘라낸다
+        if (channel.size() > position * RECORD_BYTES) {
+            channel.truncate(position * RECORD_BYTES);
+        }
+    }
+
+    /**
+     * appliedPosition 부터 toRecord 까지 읽어 balances 에 반영한다. 깨진 레코드를 만나면 멈춘다
+     */
+    private void scan(long toRecord) throws IOException {
+        while (appliedPosition < toRecord) {
+            long start = appliedPosition * RECORD_BYTES;
+            long length = Math.min(regionBytes, toRecord * RECORD_BYTES - start);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            for (int offset = 0; offset < length; offset += RECORD_BYTES) {
+                long id = buffer.getLong(offset);
+                long userId = buffer.getLong(offset + 8);
+                long amount = buffer.getLong(offset + 16);
+                long updateMillis = buffer.getLong(offset + 24);
+                int type = buffer.getInt(offset + 32);
+                if (type <= 0 || type > TYPES.length
+                    || buffer.getInt(offset + 36) != checksum(id, userId, amount, updateMillis, type)) {
+                    return;
+                }
+                apply(userId, TYPES[type - 1], amount);
+                appliedPosition++;
+            }
+        }
+    }
+
+    private void replay(long toRecord) {
+        try {
+            scan(toRecord);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long readSnapshot() throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            return 0;
+        }
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+            new BufferedInputStream(Files.newInputStream(snapshotPath)), crc))) {
+            if (in.readLong() != SNAPSHOT_MAGIC) {
+                log.warn("journal 스냅샷 형식 오류 - 처음부터 복구");
+                return 0;
+            }
+            long snapshotAt = in.readLong();
+            int count = in.readInt();
+            Map<Long, Long> loaded = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                loaded.put(in.readLong(), in.readLong());
+            }
+            long expected = crc.getValue();
+            if (in.readLong() != expected) {
+                log.warn("journal 스냅샷 체크섬 오류 - 처음부터 복구");
+                return 0;
+            }
+            balances.putAll(loaded);
+            return snapshotAt;
+        } catch (EOFException e) {
+            log.warn("journal 스냅샷이 잘려 있음 - 처음부터 복구");
+            return 0;
+        }
+    }
+
+    private void writeSnapshot(long snapshotAt, Map<Long, Long> snapshot) {
+        Path temp = snapshotPath.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        CRC32 crc = new CRC32();
+        try (FileChannel out = FileChannel.open(temp,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream data = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Channels.newOutputStream(out)), crc));
+            data.writeLong(SNAPSHOT_MAGIC);
+            data.writeLong(snapshotAt);
+            data.writeInt(snapshot.size());
+            for (Map.Entry<Long, Long> entry : snapshot.entrySet()) {
+                data.writeLong(entry.getKey());
+                data.writeLong(entry.getValue());
+            }
+            data.flush();
+            data.writeLong(crc.getValue());
+            data.flush();
+            out.force(true);
+        } catch (IOException e) {
+            log.warn("journal 스냅샷 저장 실패", e);
+            return;
+        }
+        try {
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("journal 스냅샷 교체 실패", e);
+        }
+    }
+
+    private void mapRegion(long fromRecord) {
+        regionStart = fromRecord * RECORD_BYTES;
+        try {
+            region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, regionBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void apply(long userId, TransactionType type, long amount) {
+        long delta = type.isCredit() ? amount : -amount;
+        balances.merge(userId, delta, Long::sum);
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("journal sync 실패", e);
+        }
+    }
+
+    private static int checksum(long id, long userId, long amount, long updateMillis, int type) {
+        long hash = id;
+        hash = hash * 0x9E3779B97F4A7C15L + userId;
+        hash = hash * 0x9E3779B97F4A7C15L + amount;
+        hash = hash * 0x9E3779B97F4A7C15L + updateMillis;
+        hash = hash * 0x9E3779B97F4A7C15L + type;
+        return Long.hashCode(hash ^ (hash >>> 29));
+    }
+}
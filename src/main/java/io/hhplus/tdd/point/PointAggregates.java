@@ -0,0 +1,110 @@
+package io.hhplus.tdd.point;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 유저별 포인트 집계를 변경할 때마다 갱신해 두고, 조회는 내역을 훑지 않고 바로 답한다
+ * - 누적 충전 / 사용 금액과 종류별 건수
+ * - 최근 구간 합계는 bucket-size 단위의 링 버퍼(buckets 칸)로 관리해서, 조회 비용은 내역 수와 무관하게 칸 수만큼
+ * 갱신은 PointLedger.commitAll 안에서 하므로 잔액 변경과 같은 유저 단위 직렬화 구간에 있다.
+ * 내역 저장소와 마찬가지로 메모리에만 있어서, 재시작 후에는 그 이후의 변경만 집계한다.
+ */
+public class PointAggregates {
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final long bucketMillis;
+    private final int buckets;
+    private final ConcurrentMap<Long, UserAggregate> table = new ConcurrentHashMap<>();
+
+    public PointAggregates(PointProperties.Summary properties) {
+        this.bucketMillis = Math.max(1L, properties.getBucketSize().toMillis());
+        this.buckets = Math.max(1, properties.getBuckets());
+    }
+
+    /**
+     * 변경 한 건을 집계에 더한다
+     */
+    public void record(long userId, TransactionType type, long amount, long updateMillis) {
+        table.computeIfAbsent(userId, key -> new UserAggregate(buckets))
+            .record(type, amount, updateMillis / bucketMillis);
+    }
+
+    /**
+     * 현재 시각 기준 집계
+     */
+    public PointSummary summary(long userId, long nowMillis) {
+        UserAggregate aggregate = table.get(userId);
+        if (aggregate == null) {
+            aggregate = new UserAggregate(buckets);
+        }
+        return aggregate.summary(userId, nowMillis / bucketMillis, bucketMillis * buckets);
+    }
+
+    private static class UserAggregate {
+        private long totalCharged;
+        private long totalUsed;
+        private final long[] counts = new long[TYPES.length];
+        // 칸마다 담고 있는 구간 번호(시각 / bucketMillis). 번호가 다르면 지난 구간이라 비우고 쓴다
+        private final long[] slots;
+        private final long[] charged;
+        private final long[] used;
+
+        UserAggregate(int buckets) {
+            this.slots = new long[buckets];
+            this.charged = new long[buckets];
+            this.used = new long[buckets];
+            Arrays.fill(slots, -1L);
+        }
+
+        // 쓰기는 유저 단위로 직렬화되어 있지만, 조회와 섞이지 않도록 짧게 잠근다 (블로킹 없음)
+        synchronized void record(TransactionType type, long amount, long bucket) {
+            counts[type.ordinal()]++;
+            int slot = (int) (bucket % slots.length);
+            if (slots[slot] != bucket) {
+                // 시계가 되돌아가서 더 오래된 구간이 들어오면 누적 합계에만 더한다
+                if (slots[slot] > bucket) {
+                    addTotal(type, amount);
+                    return;
+                }
+                slots[slot] = bucket;
+                charged[slot] = 0L;
+                used[slot] = 0L;
+            }
+            if (type == TransactionType.CHARGE) {
+                charged[slot] += amount;
+            } else if (type == TransactionType.USE) {
+                used[slot] += amount;
+            }
+            addTotal(type, amount);
+        }
+
+        synchronized PointSummary summary(long userId, long bucket, long windowMillis) {
+            long recentCharged = 0L;
+            long recentUsed = 0L;
+            for (int slot = 0; slot < slots.length; slot++) {
+                if (slots[slot] > bucket - slots.length && slots[slot] <= bucket) {
+                    recentCharged += charged[slot];
+                    recentUsed += used[slot];
+                }
+            }
+            Map<TransactionType, Long> byType = new EnumMap<>(TransactionType.class);
+            for (TransactionType type : TYPES) {
+                byType.put(type, counts[type.ordinal()]);
+            }
+            return new PointSummary(userId, totalCharged, totalUsed, byType, windowMillis, recentCharged, recentUsed);
+        }
+
+        private void addTotal(TransactionType type, long amount) {
+            if (type == TransactionType.CHARGE) {
+                totalCharged += amount;
+            } else if (type == TransactionType.USE) {
+                totalUsed += amount;
+            }
+        }
+    }
+}
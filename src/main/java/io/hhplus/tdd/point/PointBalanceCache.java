@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongFunction;
+
+/**
+ * UserPointTable 앞단의 잔액 캐시 (Caffeine, W-TinyLFU 기반 크기 제한)
+ * - 잔액 변경은 유저 락 안에서 update 로 바로 반영한다
+ * - 조회 miss 시 테이블에서 읽은 값은, 읽는 동안 같은 stripe 에 변경이 없었을 때만 채운다
+ *   (느린 조회가 방금 저장된 잔액을 이전 값으로 덮어쓰지 않도록)
+ */
+public class PointBalanceCache {
+
+    private static final int VERSION_STRIPE_BITS = 10;
+
+    private final Cache<Long, UserPoint> cache;
+    private final AtomicLongArray versions = new AtomicLongArray(1 << VERSION_STRIPE_BITS);
+
+    public PointBalanceCache(PointProperties.Cache properties) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 캐시된 잔액을 돌려주고, 없으면 loader 로 읽어 채운다
+     */
+    public UserPoint get(long userId, LongFunction<UserPoint> loader) {
+        UserPoint cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripeOf(userId);
+        long version = versions.get(stripe);
+        UserPoint loaded = loader.apply(userId);
+        UserPoint filled = cache.asMap().compute(userId, (id, present) -> {
+            if (present != null) {
+                return present;
+            }
+            return versions.get(stripe) == version ? loaded : null;
+        });
+        return filled != null ? filled : loaded;
+    }
+
+    /**
+     * 저장된 잔액을 반영한다. 해당 유저의 변경이 직렬화된 구간 안에서 호출해야 한다
+     */
+    public void update(UserPoint userPoint) {
+        versions.incrementAndGet(stripeOf(userPoint.id()));
+        cache.put(userPoint.id(), userPoint);
+    }
+
+    public PointCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return new PointCacheStats(
+            cache.estimatedSize(),
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            stats.evictionCount()
+        );
+    }
+
+    private static int stripeOf(long userId) {
+        return (int) ((userId * 0x9E3779B97F4A7C15L) >>> (64 - VERSION_STRIPE_BITS));
+    }
+}
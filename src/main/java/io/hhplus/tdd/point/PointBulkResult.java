@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.hhplus.tdd.common.response.ErrorCode;
+
+/**
+ * 일괄 충전의 항목별 결과
+ * - index : 요청 본문에서의 순번 (0부터)
+ * - point : 성공 시 충전 후 잔액
+ * - code : 실패 시 ErrorCode
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PointBulkResult(
+        long index,
+        long userId,
+        Long point,
+        ErrorCode code
+) {
+    public static PointBulkResult success(long index, UserPoint userPoint) {
+        return new PointBulkResult(index, userPoint.id(), userPoint.point(), null);
+    }
+
+    public static PointBulkResult failure(long index, long userId, ErrorCode code) {
+        return new PointBulkResult(index, userId, null, code);
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 잔액 캐시 통계
+ * - size : 캐시된 유저 수 (추정치)
+ * - hits / misses / hitRate : 조회 적중 수 / 실패 수 / 적중률
+ * - evictions : 크기 제한으로 밀려난 항목 수
+ */
+public record PointCacheStats(
+        long size,
+        long hits,
+        long misses,
+        double hitRate,
+        long evictions
+) {
+}
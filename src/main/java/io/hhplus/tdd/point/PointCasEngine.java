@@ -0,0 +1,128 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 락 없이 CAS 로 잔액을 변경하는 CAS 모드
+ * - 유저별 상태는 long 하나에 [순번(상위 32bit) | 잔액(하위 32bit)] 으로 묶어서 compareAndSet
+ * - 규칙 검사(PointPolicy)는 CAS 루프 안에서 하므로, 규칙을 어기는 변경은 반영되지 않는다
+ * - 저장(PointLedger.commitAll)은 순번 순서대로만 진행해서 내역 순서가 잔액 변경 순서와 같다
+ * - 저장에 실패하면 그 유저의 상태를 버리고, 뒤 순번의 요청은 저장된 잔액을 다시 읽어서 처음부터 적용한다
+ *
+ * 저장은 순번마다 하나씩 진행되므로 테이블 저장을 기다리지 않도록 CAS 모드에서는 write-behind 가 항상 켜진다.
+ */
+@Component
+public class PointCasEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(PointCasEngine.class);
+    private static final long BALANCE_MASK = 0xFFFF_FFFFL;
+
+    private final PointLedger pointLedger;
+    private final ConcurrentMap<Long, State> states = new ConcurrentHashMap<>();
+
+    public PointCasEngine(PointLedger pointLedger) {
+        this.pointLedger = pointLedger;
+    }
+
+    public UserPoint execute(PointCommand command) {
+        long userId = command.userId();
+        State state = stateOf(userId);
+
+        long current;
+        long updated;
+        do {
+            if (state.failed) {
+                return execute(command);
+            }
+            current = state.packed.get();
+            long balance = PointPolicy.apply(balanceOf(current), command.type(), command.amount());
+            updated = pack(sequenceOf(current) + 1, balance);
+        } while (!state.packed.compareAndSet(current, updated));
+
+        int sequence = sequenceOf(updated);
+        long newBalance = balanceOf(updated);
+        state.awaitTurn(sequence);
+        if (state.failed) {
+            // 앞 순번의 저장이 실패해서 이 잔액은 저장된 잔액과 맞지 않는다. 다시 읽은 상태에서 처음부터 적용한다
+            state.finish(sequence);
+            return execute(command);
+        }
+        try {
+            return pointLedger.commitAll(userId, newBalance, List.of(command));
+        } catch (RuntimeException e) {
+            log.error("CAS 반영 후 저장 실패, 상태를 다시 읽습니다 - userId: {}, sequence: {}", userId, sequence, e);
+            // 메모리 잔액은 이미 앞서 나갔으므로 이 상태를 버리고, 뒤 순번들은 새 상태에서 다시 시도하게 한다
+            state.failed = true;
+            states.remove(userId, state);
+            throw e;
+        } finally {
+            state.finish(sequence);
+        }
+    }
+
+    private State stateOf(long userId) {
+        State state = states.get(userId);
+        if (state != null) {
+            return state;
+        }
+        State loaded = new State(pack(0, pointLedger.current(userId).point()));
+        State previous = states.putIfAbsent(userId, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    private static long pack(int sequence, long balance) {
+        return ((long) sequence << 32) | (balance & BALANCE_MASK);
+    }
+
+    private static int sequenceOf(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    private static long balanceOf(long packed) {
+        return packed & BALANCE_MASK;
+    }
+
+    /**
+     * 유저별 CAS 상태와, 저장이 끝난 마지막 순번
+     * 차례를 기다리는 스레드는 park 하고, 앞 순번이 저장을 마치면 다음 순번의 스레드만 깨운다
+     */
+    private static class State {
+        private final AtomicLong packed;
+        private final ConcurrentMap<Integer, Thread> waiting = new ConcurrentHashMap<>();
+        private volatile int committed;
+        // 저장에 실패해서 버린 상태. 이후 순번은 저장하지 않고 새 상태에서 다시 시도한다
+        private volatile boolean failed;
+
+        State(long packed) {
+            this.packed = new AtomicLong(packed);
+        }
+
+        // 앞 순번의 저장이 끝날 때까지 대기. 순번은 int 로 돌아가도 같음 비교만 하므로 문제없다
+        void awaitTurn(int sequence) {
+            if (committed == sequence - 1) {
+                return;
+            }
+            waiting.put(sequence, Thread.currentThread());
+            // 등록한 뒤 다시 확인하므로 finish 가 먼저 지나가도 깨움을 놓치지 않는다
+            while (committed != sequence - 1) {
+                LockSupport.park(this);
+            }
+            waiting.remove(sequence);
+        }
+
+        void finish(int sequence) {
+            committed = sequence;
+            Thread next = waiting.get(sequence + 1);
+            if (next != null) {
+                LockSupport.unpark(next);
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 충전 요청 본문의 한 줄 (NDJSON)
+ */
+public record PointChargeItem(
+        long userId,
+        long amount
+) {
+}
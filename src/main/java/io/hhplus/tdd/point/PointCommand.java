@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 유저 한 명에 대한 포인트 충전/사용 요청
+ */
+public record PointCommand(
+        long userId,
+        TransactionType type,
+        long amount
+) {
+}
@@ -1,11 +1,22 @@
 package io.hhplus.tdd.point;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/point")
@@ -13,7 +24,11 @@ import java.util.List;
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    // 스트리밍 응답은 이 건수마다 소켓으로 내보낸다 (첫 건은 바로)
+    private static final int STREAM_FLUSH_INTERVAL = 256;
     private final PointService pointService;
+    private final PointIdempotencyStore pointIdempotencyStore;
+    private final ObjectMapper objectMapper;
 
     /**
      * 특정 유저의 포인트 조회
@@ -27,37 +42,198 @@ public class PointController {
     }
 
     /**
-     * 특정 유저의 포인트 충전/이용 내역 조회
+     * 특정 유저의 포인트 충전/이용 내역 조회 (전체 목록, JSON 배열)
+     * cursor / limit 없이 호출하던 기존 클라이언트를 위해 응답 형태를 그대로 유지한다
+     * - type : CHARGE | USE (생략 시 전체)
      */
-    @GetMapping("{id}/histories")
+    @GetMapping(value = "{id}/histories", params = {"!cursor", "!limit"})
     public List<PointHistory> history(
+        @PathVariable long id,
+        @RequestParam(required = false) TransactionType type
+    ) {
+        log.debug("GET /point/{}/histories - type: {}", id, type);
+        return pointService.getHistories(id, type);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역 페이지 조회 (cursor 나 limit 을 주면 PointHistoryPage 로 응답)
+     * - cursor : 이전 응답의 nextCursor (첫 페이지는 생략)
+     * - limit : 페이지 크기 (기본 100, 최대 1000)
+     * - type : CHARGE | USE (생략 시 전체)
+     */
+    @GetMapping("{id}/histories")
+    public PointHistoryPage historyPage(
+        @PathVariable long id,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(defaultValue = "100") int limit,
+        @RequestParam(required = false) TransactionType type
+    ) {
+        log.debug("GET /point/{}/histories - cursor: {}, limit: {}, type: {}", id, cursor, limit, type);
+        return pointService.getHistories(id, cursor, limit, type);
+    }
+
+    /**
+     * 특정 유저의 누적 충전 / 사용 금액, 종류별 건수, 최근 구간(기본 30일) 합계
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
         @PathVariable long id
     ) {
-        log.debug("GET /point/{}/histories - get histories", id);
-        return pointService.getHistories(id);
+        log.debug("GET /point/{}/summary", id);
+        return pointService.getSummary(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 내역 전체를 스트리밍 (JSON 배열)
+     * 목록을 한 번에 만들지 않고 저장소에서 읽는 대로 응답에 쓴다 (chunked transfer encoding)
+     */
+    @GetMapping(value = "{id}/histories/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamingResponseBody streamHistory(
+        @PathVariable long id,
+        @RequestParam(required = false) TransactionType type
+    ) {
+        log.debug("GET /point/{}/histories/stream - type: {}", id, type);
+        return writeHistories(pointService.getHistories(id, type), false);
+    }
+
+    /**
+     * 특정 유저의 포인트 내역 전체를 스트리밍 (NDJSON, 한 줄에 한 건)
+     */
+    @GetMapping(value = "{id}/histories/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamHistoryLines(
+        @PathVariable long id,
+        @RequestParam(required = false) TransactionType type
+    ) {
+        log.debug("GET /point/{}/histories/stream (ndjson) - type: {}", id, type);
+        return writeHistories(pointService.getHistories(id, type), true);
     }
 
     /**
      * 특정 유저의 포인트 충전
+     * SHARDED 모드에서는 요청 스레드를 반납하고, shard 가 처리를 끝내면 응답한다 (async MVC)
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도에는 처음 결과를 돌려준다
      */
     @PatchMapping("{id}/charge")
-    public UserPoint charge(
+    public CompletableFuture<UserPoint> charge(
         @PathVariable long id,
-        @RequestBody long amount
+        @RequestBody long amount,
+        @RequestHeader(name = PointIdempotencyStore.HEADER, required = false) String idempotencyKey
     ) {
-        log.debug("PATCH /point/{}/charge - amount: {}", id, amount);
-        return pointService.charge(id, amount);
+        log.debug("PATCH /point/{}/charge - amount: {}, key: {}", id, amount, idempotencyKey);
+        return pointIdempotencyStore.execute(
+            idempotencyKey,
+            new PointCommand(id, TransactionType.CHARGE, amount),
+            () -> pointService.chargeAsync(id, amount)
+        );
     }
 
     /**
      * 특정 유저의 포인트 사용
      */
     @PatchMapping("{id}/use")
-    public UserPoint use(
+    public CompletableFuture<UserPoint> use(
         @PathVariable long id,
-        @RequestBody long amount
+        @RequestBody long amount,
+        @RequestHeader(name = PointIdempotencyStore.HEADER, required = false) String idempotencyKey
+    ) {
+        log.debug("PATCH /point/{}/use - amount: {}, key: {}", id, amount, idempotencyKey);
+        return pointIdempotencyStore.execute(
+            idempotencyKey,
+            new PointCommand(id, TransactionType.USE, amount),
+            () -> pointService.useAsync(id, amount)
+        );
+    }
+
+    /**
+     * 송금 (한 유저 → 한 명 또는 여러 명)
+     * 관련 유저의 잔액과 내역을 한 번에 반영하고, 하나라도 규칙을 어기면 아무것도 바꾸지 않는다
+     */
+    @PostMapping("transfer")
+    public PointTransferResult transfer(
+        @RequestBody PointTransferRequest request
     ) {
-        log.debug("PATCH /point/{}/use - amount: {}", id, amount);
-        return pointService.use(id, amount);
+        log.debug("POST /point/transfer - from: {}, recipients: {}", request.fromUserId(), request.recipients());
+        return pointService.transfer(request.fromUserId(), request.recipients());
+    }
+
+    /**
+     * 여러 유저 포인트 일괄 충전
+     * - 요청 : {"userId":1,"amount":100} 을 한 줄씩 (NDJSON)
+     * - 응답 : 처리되는 대로 {"index":0,"userId":1,"point":1100} 또는 {"index":0,"userId":1,"code":"..."} 를 한 줄씩
+     */
+    @PostMapping(
+        value = "charge/batch",
+        consumes = MediaType.APPLICATION_NDJSON_VALUE,
+        produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public StreamingResponseBody chargeAll(HttpServletRequest request) {
+        log.debug("POST /point/charge/batch");
+        return output -> {
+            ReentrantLock writeLock = new ReentrantLock();
+            try (MappingIterator<PointChargeItem> items =
+                     objectMapper.readerFor(PointChargeItem.class).readValues(request.getInputStream())) {
+                pointService.chargeAll(toCommands(items), result -> writeLine(output, writeLock, result));
+            }
+            output.flush();
+        };
+    }
+
+    // 조회(유저 검증 포함)는 응답을 쓰기 전에 끝내서, 실패하면 일반 에러 응답이 나가게 한다
+    // 목록은 저장소의 뷰라서 순회할 때 한 건씩 PointHistory 를 만들고 바로 쓴다
+    private StreamingResponseBody writeHistories(List<PointHistory> histories, boolean lines) {
+        return output -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                if (!lines) {
+                    generator.writeStartArray();
+                }
+                int written = 0;
+                for (PointHistory history : histories) {
+                    generator.writeObject(history);
+                    if (lines) {
+                        generator.writeRaw('\n');
+                    }
+                    if (written++ % STREAM_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                }
+                if (!lines) {
+                    generator.writeEndArray();
+                }
+            }
+        };
+    }
+
+    private Iterator<PointCommand> toCommands(Iterator<PointChargeItem> items) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return items.hasNext();
+            }
+
+            @Override
+            public PointCommand next() {
+                PointChargeItem item = items.next();
+                return new PointCommand(item.userId(), TransactionType.CHARGE, item.amount());
+            }
+        };
+    }
+
+    // 여러 파티션 스레드에서 호출되므로 한 줄씩 쓰도록 직렬화
+    // (synchronized 안에서 소켓 쓰기를 기다리면 virtual thread 가 carrier 스레드를 붙잡으므로 ReentrantLock 사용)
+    private void writeLine(OutputStream output, ReentrantLock writeLock, PointBulkResult result) {
+        try {
+            byte[] line = objectMapper.writeValueAsBytes(result);
+            writeLock.lock();
+            try {
+                output.write(line);
+                output.write('\n');
+            } finally {
+                writeLock.unlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 충전/사용 요청을 유저 단위로 직렬화하는 방식
+ * - LOCK : 요청마다 유저 락을 잡고 조회 -> 저장
+ * - GROUP_COMMIT : 같은 유저의 대기 요청을 모아서 한 번에 저장
+ * - CAS : 락 없이 유저별 잔액 상태를 compareAndSet 으로 변경 (write-behind 필수)
+ * - SHARDED : userId 로 나눈 단일 스레드 shard 가 해당 유저의 변경을 전담 (요청 스레드는 결과를 기다리지 않음, write-behind 필수)
+ */
+public enum PointExecutionMode {
+    LOCK, GROUP_COMMIT, CAS, SHARDED
+}
@@ -0,0 +1,100 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.response.ErrorCode;
+import io.hhplus.tdd.common.util.Lock;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 충전 포인트 만료 (point.expiry)
+ * tick 마다 타이밍 휠에서 만료 시각이 지난 lot 을 꺼내 유저별로 모으고, 유저 락을 잡고 PointLedger.expire 로 소멸시킨다.
+ * 전체 유저나 내역을 훑지 않으므로 tick 비용은 만료되는 lot 수에 비례한다.
+ * 유저 락을 제때 못 잡거나 (LOCK_TIMEOUT / LOCK_QUEUE_FULL) 저장에 실패하면 그 유저의 lot 은 다음 tick 에 다시 처리한다.
+ * 락 경합이 아닌 실패는 다음 tick 에도 반복될 수 있으므로 warn 이상으로 남긴다.
+ */
+@Component
+public class PointExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PointExpiryScheduler.class);
+
+    private final PointLedger pointLedger;
+    private final Lock lock;
+    private final ScheduledExecutorService ticker;
+
+    public PointExpiryScheduler(PointLedger pointLedger, Lock lock, PointProperties properties) {
+        this.pointLedger = pointLedger;
+        this.lock = lock;
+        if (!pointLedger.expiryEnabled()) {
+            this.ticker = null;
+            return;
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tickMillis = Math.max(1L, properties.getExpiry().getTick().toMillis());
+        ticker.scheduleWithFixedDelay(this::tickQuietly, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * now 까지 만료 시각이 지난 lot 을 소멸시키고, 소멸 처리한 유저 수를 돌려준다
+     */
+    int tick(long now) {
+        Map<Long, List<PointLot>> byUser = new LinkedHashMap<>();
+        for (PointLot lot : pointLedger.dueLots(now)) {
+            byUser.computeIfAbsent(lot.userId(), userId -> new ArrayList<>(1)).add(lot);
+        }
+
+        int expired = 0;
+        for (Map.Entry<Long, List<PointLot>> entry : byUser.entrySet()) {
+            long userId = entry.getKey();
+            try {
+                if (lock.execute(userId, () -> pointLedger.expire(userId, now)) != null) {
+                    expired++;
+                }
+            } catch (BaseException e) {
+                // 락 경합은 잠깐이지만, 잔액 규칙 위반은 장부와 잔액이 어긋난 것이라 저절로 풀리지 않는다
+                if (isContention(e.getErrorCode())) {
+                    log.debug("만료 처리를 다음 tick 으로 미룹니다 - userId: {}, reason: {}", userId, e.getErrorCode());
+                } else {
+                    log.warn("만료 처리 실패, 다음 tick 에 다시 시도합니다 - userId: {}, reason: {}", userId, e.getErrorCode());
+                }
+                entry.getValue().forEach(pointLedger::retryExpiry);
+            } catch (RuntimeException e) {
+                log.error("만료 처리 실패, 다음 tick 에 다시 시도합니다 - userId: {}", userId, e);
+                entry.getValue().forEach(pointLedger::retryExpiry);
+            }
+        }
+        return expired;
+    }
+
+    private static boolean isContention(ErrorCode errorCode) {
+        return errorCode == ErrorCode.LOCK_TIMEOUT || errorCode == ErrorCode.LOCK_QUEUE_FULL;
+    }
+
+    private void tickQuietly() {
+        try {
+            tick(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.error("포인트 만료 처리 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 충전 lot 만료 통계
+ * - liveLots : 남은 금액이 있는 lot 수
+ * - expiredLots : 만료로 소멸한 lot 수
+ * - expiredAmount : 만료로 소멸한 포인트 합계
+ */
+public record PointExpiryStats(
+        long liveLots,
+        long expiredLots,
+        long expiredAmount
+) {
+}
@@ -0,0 +1,153 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.util.Lock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 유저의 충전/사용 요청을 모아서 한 번에 저장하는 group commit
+ * - 요청은 유저별 대기열에 들어간 뒤 유저 락을 기다린다
+ * - 락을 잡은 스레드가 대기열을 비우면서 요청 순서대로 규칙을 검사하고, 잔액은 한 번만 저장한다
+ * - 규칙을 어긴 요청만 실패하고, 나머지는 각자 적용 직후의 잔액을 결과로 받는다
+ * - 이미 다른 스레드가 처리해 준 요청은 락을 잡자마자 결과만 가져간다
+ * - 락 한도로 거절된 요청은 대기열에서 빼서 적용되지 않게 한다. 이미 다른 스레드가 꺼내 갔으면 그 결과를 기다린다
+ */
+@Component
+public class PointGroupCommitter {
+
+    private final PointLedger pointLedger;
+    private final Lock lock;
+    private final int maxBatchSize;
+    private final ConcurrentMap<Long, Queue<Pending>> queues = new ConcurrentHashMap<>();
+
+    public PointGroupCommitter(PointLedger pointLedger, Lock lock, PointProperties properties) {
+        this.pointLedger = pointLedger;
+        this.lock = lock;
+        this.maxBatchSize = properties.getGroupCommit().getMaxBatchSize();
+    }
+
+    public UserPoint submit(PointCommand command) {
+        long userId = command.userId();
+        Pending pending = new Pending(command);
+        Queue<Pending> queue = queues.computeIfAbsent(userId, id -> new ConcurrentLinkedQueue<>());
+        queue.add(pending);
+
+        try {
+            lock.run(userId, () -> {
+                while (!pending.done) {
+                    commitBatch(userId, queue);
+                }
+                if (queue.isEmpty()) {
+                    queues.remove(userId, queue);
+                }
+            });
+        } catch (BaseException e) {
+            // 락 한도로 거절되면 (LOCK_TIMEOUT / LOCK_QUEUE_FULL) 아직 아무도 꺼내지 않은 요청만 거절할 수 있다
+            if (queue.remove(pending)) {
+                if (queue.isEmpty()) {
+                    queues.remove(userId, queue);
+                }
+                throw e;
+            }
+            // 이미 락을 잡은 스레드가 꺼내 갔으면 그 스레드가 처리한 결과를 따른다
+            pending.await();
+        }
+        return pending.result();
+    }
+
+    private void commitBatch(long userId, Queue<Pending> queue) {
+        List<Pending> batch = new ArrayList<>();
+        Pending next;
+        while (batch.size() < maxBatchSize && (next = queue.poll()) != null) {
+            batch.add(next);
+        }
+
+        List<Pending> accepted = new ArrayList<>(batch.size());
+        List<PointCommand> commands = new ArrayList<>(batch.size());
+        try {
+            long balance = pointLedger.current(userId).point();
+            for (Pending pending : batch) {
+                PointCommand command = pending.command;
+                try {
+                    balance = PointPolicy.apply(balance, command.type(), command.amount());
+                } catch (BaseException e) {
+                    pending.fail(e);
+                    continue;
+                }
+                pending.balance = balance;
+                accepted.add(pending);
+                commands.add(command);
+            }
+
+            if (!commands.isEmpty()) {
+                UserPoint committed = pointLedger.commitAll(userId, balance, commands);
+                for (Pending pending : accepted) {
+                    pending.complete(new UserPoint(userId, pending.balance, committed.updateMillis()));
+                }
+            }
+        } catch (RuntimeException e) {
+            for (Pending pending : batch) {
+                if (!pending.done) {
+                    pending.fail(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 요청. 결과는 유저 락 안에서 쓰고, 락을 잡은 스레드가 읽거나 락을 못 잡은 스레드가 await 후 읽는다
+     */
+    private static class Pending {
+        private final PointCommand command;
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private boolean done;
+        private long balance;
+        private UserPoint result;
+        private RuntimeException error;
+
+        Pending(PointCommand command) {
+            this.command = command;
+        }
+
+        void complete(UserPoint result) {
+            this.result = result;
+            this.done = true;
+            completed.countDown();
+        }
+
+        void fail(RuntimeException error) {
+            this.error = error;
+            this.done = true;
+            completed.countDown();
+        }
+
+        void await() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    completed.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        UserPoint result() {
+            if (error != null) {
+                throw error;
+            }
+            return result;
+        }
+    }
+}
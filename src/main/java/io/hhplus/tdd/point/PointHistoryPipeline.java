@@ -0,0 +1,191 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 확정된 포인트 내역을 유저 락 밖에서 모아서 PointHistoryTable 에 옮겨 적는다.
+ * - userId 로 워커를 고정해서 같은 유저의 내역 순서를 보장
+ * - 워커는 대기열에 쌓인 내역을 batch-size 까지 한 번에 꺼내서 sink 에 넘긴다
+ * - 워커별 대기열은 크기가 정해져 있어서, 가득 차면 submit 이 대기한다 (backpressure)
+ * - flush 는 그 시점까지 넣은 내역이 모두 반영될 때까지 기다리는 barrier, shutdown 은 남은 내역을 반영한 뒤 종료
+ */
+public class PointHistoryPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryPipeline.class);
+    private static final Entry STOP = new Entry(null, null);
+
+    private final PointProperties.HistoryPipeline properties;
+    private final Consumer<List<PointHistory>> sink;
+    private final List<BlockingQueue<Entry>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private volatile boolean running = true;
+
+    public PointHistoryPipeline(
+        PointProperties.HistoryPipeline properties,
+        ThreadFactory threadFactory,
+        Consumer<List<PointHistory>> sink
+    ) {
+        this.properties = properties;
+        this.sink = sink;
+
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+            Thread worker = threadFactory.newThread(() -> drain(queue));
+            queues.add(queue);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * 내역을 유저 대기열에 넣는다
+     */
+    public void submit(PointHistory history) {
+        if (!running) {
+            throw new IllegalStateException("내역 파이프라인이 이미 종료되었습니다.");
+        }
+        putUninterruptibly(queueOf(history.userId()), new Entry(history, null));
+    }
+
+    /**
+     * 해당 유저의 대기 중인 내역이 반영될 때까지 기다린다
+     */
+    public void flush(long userId) {
+        awaitBarrier(queueOf(userId));
+    }
+
+    /**
+     * 모든 대기열이 비워질 때까지 기다린다
+     */
+    public void flushAll() {
+        queues.forEach(this::awaitBarrier);
+    }
+
+    /**
+     * 새 내역을 막고, 남은 내역을 반영한 뒤 워커를 종료한다
+     */
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        queues.forEach(queue -> putUninterruptibly(queue, STOP));
+
+        long deadline = System.nanoTime() + properties.getShutdownTimeout().toNanos();
+        for (Thread worker : workers) {
+            try {
+                worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        int remaining = queues.stream().mapToInt(BlockingQueue::size).sum();
+        if (remaining > 0) {
+            log.warn("내역 파이프라인 종료 시간 초과 - 반영되지 않은 내역: {}", remaining);
+        }
+    }
+
+    public PointHistoryPipelineStats stats() {
+        int pending = queues.stream().mapToInt(BlockingQueue::size).sum();
+        return new PointHistoryPipelineStats(pending, applied.sum(), batches.sum());
+    }
+
+    private BlockingQueue<Entry> queueOf(long userId) {
+        return queues.get(Math.floorMod(userId, queues.size()));
+    }
+
+    private void awaitBarrier(BlockingQueue<Entry> queue) {
+        if (!running) {
+            return;
+        }
+        CountDownLatch barrier = new CountDownLatch(1);
+        putUninterruptibly(queue, new Entry(null, barrier));
+        try {
+            barrier.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain(BlockingQueue<Entry> queue) {
+        int batchSize = properties.getBatchSize();
+        List<Entry> entries = new ArrayList<>(batchSize);
+        List<PointHistory> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                entries.add(queue.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            queue.drainTo(entries, batchSize - 1);
+
+            boolean stopped = false;
+            for (Entry entry : entries) {
+                if (entry.history() != null) {
+                    batch.add(entry.history());
+                    continue;
+                }
+                // barrier / STOP 앞에 넣은 내역은 먼저 반영한다
+                apply(batch);
+                if (entry == STOP) {
+                    stopped = true;
+                    break;
+                }
+                entry.barrier().countDown();
+            }
+            apply(batch);
+            entries.clear();
+            if (stopped) {
+                return;
+            }
+        }
+    }
+
+    private void apply(List<PointHistory> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            sink.accept(batch);
+            applied.add(batch.size());
+            batches.increment();
+        } catch (RuntimeException e) {
+            log.error("내역 반영 실패 - {} 건", batch.size(), e);
+        }
+        batch.clear();
+    }
+
+    private void putUninterruptibly(BlockingQueue<Entry> queue, Entry entry) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(entry);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 대기열 항목. history 가 있으면 내역, 없으면 barrier (둘 다 없으면 STOP)
+     */
+    private record Entry(PointHistory history, CountDownLatch barrier) {
+    }
+}
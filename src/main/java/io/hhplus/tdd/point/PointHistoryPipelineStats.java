@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 내역 파이프라인 통계
+ * - pending : 아직 PointHistoryTable 에 반영되지 않은 내역 수 (barrier 포함)
+ * - applied : 반영한 내역 수
+ * - batches : 반영 횟수 (applied / batches = 평균 batch 크기)
+ */
+public record PointHistoryPipelineStats(
+        long pending,
+        long applied,
+        long batches
+) {
+}
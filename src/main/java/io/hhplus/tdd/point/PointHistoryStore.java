@@ -0,0 +1,243 @@
+package io.hhplus.tdd.point;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * userId 별 포인트 내역 저장소 (내역 조회의 기준)
+ * - id 는 AtomicLong 으로 발급하고, 내역은 유저별 append-only 청크에 쌓는다
+ * - 쓰기는 유저 단위로만 직렬화하므로 다른 유저끼리는 id 발급 외에 경합하지 않는다
+ * - 내역은 객체 대신 열(column)별 primitive 배열(id / amount / updateMillis 는 long[], 종류는 byte[])로 저장하고,
+ *   PointHistory 는 조회 결과를 꺼낼 때(직렬화 시점) 만든다
+ * - 종류별 순서는 전체 목록의 위치(int[])만 따로 들고 있어서, 페이지 조회 비용은 다른 유저의 내역 수와 무관하게 O(limit)
+ * - 조회 결과는 읽은 시점의 크기까지만 보는 읽기 전용 뷰라서 복사하지 않고, 이후 추가된 내역에 영향받지 않는다
+ * - 커서는 선택한 순서(전체 또는 종류별) 안에서 이미 읽은 개수
+ * PointLedger 는 같은 내역을 PointHistoryTable 에도 옮겨 적으므로, 힙 사용량은 테이블을 대신하는 것이 아니라 그 위에 더해진다
+ */
+@Component
+public class PointHistoryStore {
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final AtomicLong ids = new AtomicLong();
+    private final ConcurrentMap<Long, UserHistories> table = new ConcurrentHashMap<>();
+
+    /**
+     * 새 id 를 발급해서 내역을 저장한다. 같은 유저의 내역은 id 가 저장 순서대로 증가한다
+     */
+    public PointHistory append(long userId, long amount, TransactionType type, long updateMillis) {
+        return table.computeIfAbsent(userId, UserHistories::new).append(amount, type, updateMillis, ids);
+    }
+
+    /**
+     * 유저의 전체 내역
+     */
+    public List<PointHistory> selectAll(long userId) {
+        return selectAll(userId, null);
+    }
+
+    /**
+     * 유저의 종류별 전체 내역. type 이 null 이면 전체
+     */
+    public List<PointHistory> selectAll(long userId, TransactionType type) {
+        UserHistories histories = table.get(userId);
+        if (histories == null) {
+            return List.of();
+        }
+        return histories.slice(type, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * cursor 이후의 내역을 최대 limit 건 조회. type 이 null 이면 전체
+     */
+    public PointHistoryPage selectPage(long userId, long cursor, int limit, TransactionType type) {
+        UserHistories histories = table.get(userId);
+        if (histories == null) {
+            return new PointHistoryPage(List.of(), null);
+        }
+        int from = (int) Math.min(cursor, Integer.MAX_VALUE);
+        List<PointHistory> page = histories.slice(type, from, limit);
+        long next = (long) from + page.size();
+        return new PointHistoryPage(page, next < histories.size(type) ? next : null);
+    }
+
+    private static class UserHistories {
+        private final long userId;
+        private final Columns all = new Columns();
+        private final Positions[] byType = new Positions[TYPES.length];
+
+        UserHistories(long userId) {
+            this.userId = userId;
+            for (int i = 0; i < byType.length; i++) {
+                byType[i] = new Positions();
+            }
+        }
+
+        // id 발급도 유저 락 안에서 해야 유저별 id 순서와 저장 순서가 같다
+        synchronized PointHistory append(long amount, TransactionType type, long updateMillis, AtomicLong ids) {
+            long id = ids.incrementAndGet();
+            int position = all.size;
+            // 종류별 위치는 전체 목록에 쓴 뒤에 공개해야 읽는 쪽이 빈 칸을 보지 않는다
+            all.append(id, amount, (byte) type.ordinal(), updateMillis);
+            byType[type.ordinal()].append(position);
+            return new PointHistory(id, userId, amount, type, updateMillis);
+        }
+
+        int size(TransactionType type) {
+            return type == null ? all.size : byType[type.ordinal()].size;
+        }
+
+        List<PointHistory> slice(TransactionType type, int from, int limit) {
+            // 종류별 위치를 먼저 읽어야, 그 위치가 가리키는 전체 목록의 칸이 이미 채워져 있다
+            Positions positions = type == null ? null : byType[type.ordinal()];
+            int end = positions == null ? all.size : positions.size;
+            int to = (int) Math.min(end, (long) from + limit);
+            if (from >= to) {
+                return List.of();
+            }
+            return new Snapshot(this, positions, from, to - from);
+        }
+
+        PointHistory get(int position) {
+            Chunk chunk = all.chunks[position >>> CHUNK_BITS];
+            int offset = position & CHUNK_MASK;
+            return new PointHistory(
+                chunk.ids[offset],
+                userId,
+                chunk.amounts[offset],
+                TYPES[chunk.types[offset]],
+                chunk.updateMillis[offset]
+            );
+        }
+    }
+
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    // 내역이 적은 유저가 많아도 메모리를 덜 쓰도록 마지막 청크는 작게 시작해서 두 배씩 늘린다
+    private static final int INITIAL_CAPACITY = 4;
+
+    /**
+     * 전체 내역 (열별 배열 청크)
+     * 쓰기는 한 스레드씩(UserHistories 의 synchronized), 읽기는 락 없이 size 까지만 본다
+     * 청크가 늘어날 때는 새 배열에 복사한 뒤 교체하므로, 채워진 칸의 값은 바뀌지 않는다
+     */
+    private static class Columns {
+        private volatile Chunk[] chunks = new Chunk[1];
+        private volatile int size;
+
+        void append(long id, long amount, byte type, long updateMillis) {
+            int index = size;
+            int chunkIndex = index >>> CHUNK_BITS;
+            int offset = index & CHUNK_MASK;
+            Chunk[] current = chunks;
+            if (chunkIndex == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            Chunk chunk = current[chunkIndex];
+            if (chunk == null) {
+                chunk = new Chunk(chunkIndex == 0 ? INITIAL_CAPACITY : CHUNK_SIZE);
+                current[chunkIndex] = chunk;
+            } else if (offset == chunk.ids.length) {
+                chunk.grow();
+            }
+            chunk.ids[offset] = id;
+            chunk.amounts[offset] = amount;
+            chunk.types[offset] = type;
+            chunk.updateMillis[offset] = updateMillis;
+            chunks = current;
+            size = index + 1;
+        }
+    }
+
+    private static class Chunk {
+        private volatile long[] ids;
+        private volatile long[] amounts;
+        private volatile long[] updateMillis;
+        private volatile byte[] types;
+
+        Chunk(int capacity) {
+            this.ids = new long[capacity];
+            this.amounts = new long[capacity];
+            this.updateMillis = new long[capacity];
+            this.types = new byte[capacity];
+        }
+
+        void grow() {
+            int capacity = Math.min(ids.length * 2, CHUNK_SIZE);
+            types = Arrays.copyOf(types, capacity);
+            updateMillis = Arrays.copyOf(updateMillis, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+        }
+    }
+
+    /**
+     * 종류별 내역의 전체 목록 내 위치
+     */
+    private static class Positions {
+        private volatile int[][] chunks = new int[1][];
+        private volatile int size;
+
+        void append(int position) {
+            int index = size;
+            int chunkIndex = index >>> CHUNK_BITS;
+            int offset = index & CHUNK_MASK;
+            int[][] current = chunks;
+            if (chunkIndex == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            int[] chunk = current[chunkIndex];
+            if (chunk == null) {
+                chunk = new int[chunkIndex == 0 ? INITIAL_CAPACITY : CHUNK_SIZE];
+            } else if (offset == chunk.length) {
+                chunk = Arrays.copyOf(chunk, Math.min(chunk.length * 2, CHUNK_SIZE));
+            }
+            chunk[offset] = position;
+            current[chunkIndex] = chunk;
+            chunks = current;
+            size = index + 1;
+        }
+
+        int get(int index) {
+            return chunks[index >>> CHUNK_BITS][index & CHUNK_MASK];
+        }
+    }
+
+    /**
+     * 열 배열 위의 읽기 전용 뷰. get 할 때마다 PointHistory 를 만든다
+     */
+    private static class Snapshot extends AbstractList<PointHistory> implements RandomAccess {
+        private final UserHistories histories;
+        private final Positions positions;
+        private final int offset;
+        private final int size;
+
+        Snapshot(UserHistories histories, Positions positions, int offset, int size) {
+            this.histories = histories;
+            this.positions = positions;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        @Override
+        public PointHistory get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            int position = positions == null ? offset + index : positions.get(offset + index);
+            return histories.get(position);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
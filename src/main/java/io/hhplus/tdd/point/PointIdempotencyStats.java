@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+/**
+ * Idempotency-Key 저장소 통계
+ * - size : 저장된 키 수 (추정치)
+ * - estimatedBytes : 키 저장에 쓰는 메모리 추정치
+ * - hits / misses / hitRate : 재시도로 처음 결과를 돌려준 수 / 새로 처리한 수 / 중복 비율
+ * - mismatches : 같은 키로 다른 요청이 와서 거절한 수
+ */
+public record PointIdempotencyStats(
+        long size,
+        long estimatedBytes,
+        long hits,
+        long misses,
+        double hitRate,
+        long mismatches
+) {
+}
@@ -0,0 +1,114 @@
+package io.hhplus.tdd.point;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.response.ErrorCode;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 별 충전 / 사용 결과 저장소 (Caffeine, 시간 + 메모리 크기 제한)
+ * - 키는 유저 단위로 구분하고, 처음 요청의 결과(처리 중이면 그 future)를 그대로 돌려준다
+ *   재시도는 Lock 이나 테이블을 거치지 않는다
+ * - 같은 키로 종류나 금액이 다른 요청이 오면 거절한다
+ * - 실패한 요청은 잔액을 바꾸지 않았으므로 키를 지워서 재시도할 수 있게 한다
+ * - 항목 크기는 키 길이로 추정해서 point.idempotency.maximum-memory 를 넘으면 밀어낸다
+ */
+@Component
+public class PointIdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final int MAX_KEY_LENGTH = 255;
+
+    // 항목 1건의 대략적인 크기 (키 / 항목 / future / UserPoint 객체와 캐시 노드). 키 문자열은 따로 더한다
+    private static final int ENTRY_OVERHEAD_BYTES = 200;
+
+    private final Cache<Key, Entry> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+
+    public PointIdempotencyStore(PointProperties properties, PointMetrics pointMetrics) {
+        PointProperties.Idempotency idempotency = properties.getIdempotency();
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(idempotency.getTtl())
+            .maximumWeight(idempotency.getMaximumMemory().toBytes())
+            .weigher((Key key, Entry entry) -> weigh(key))
+            .build();
+        pointMetrics.bindIdempotency(this);
+    }
+
+    /**
+     * 키가 없으면 action 을 그대로 실행하고, 있으면 처음 요청의 결과를 돌려준다
+     */
+    public CompletableFuture<UserPoint> execute(
+        String idempotencyKey,
+        PointCommand command,
+        Supplier<CompletableFuture<UserPoint>> action
+    ) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return CompletableFuture.failedFuture(BaseException.of(ErrorCode.IDEMPOTENCY_KEY_INVALID));
+        }
+
+        Key key = new Key(command.userId(), idempotencyKey);
+        Entry entry = new Entry(command.type(), command.amount(), new CompletableFuture<>());
+        Entry previous = cache.asMap().putIfAbsent(key, entry);
+        if (previous != null) {
+            if (previous.type() != command.type() || previous.amount() != command.amount()) {
+                mismatches.increment();
+                return CompletableFuture.failedFuture(BaseException.of(ErrorCode.IDEMPOTENCY_KEY_MISMATCH));
+            }
+            hits.increment();
+            return previous.result();
+        }
+
+        misses.increment();
+        CompletableFuture<UserPoint> result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((userPoint, e) -> {
+            if (e != null) {
+                cache.asMap().remove(key, entry);
+                entry.result().completeExceptionally(
+                    e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+            } else {
+                entry.result().complete(userPoint);
+            }
+        });
+        return entry.result();
+    }
+
+    public PointIdempotencyStats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+        return new PointIdempotencyStats(
+            cache.estimatedSize(),
+            cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L),
+            hitCount,
+            missCount,
+            requests == 0 ? 0.0 : (double) hitCount / requests,
+            mismatches.sum()
+        );
+    }
+
+    private static int weigh(Key key) {
+        return ENTRY_OVERHEAD_BYTES + key.idempotencyKey().length() * 2;
+    }
+
+    private record Key(long userId, String idempotencyKey) {
+    }
+
+    private record Entry(TransactionType type, long amount, CompletableFuture<UserPoint> result) {
+    }
+}
@@ -0,0 +1,380 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointJournal;
+import io.hhplus.tdd.common.util.Threads;
+import io.hhplus.tdd.database.UserPointTable;
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 포인트 잔액의 저장소
+ * - 기본(write-through): 매번 UserPointTable / PointHistoryTable 에 바로 저장
+ * - write-behind: 메모리의 잔액을 기준으로 응답하고, 테이블 저장은 PointWriteBehind 가 비동기로 처리 (CAS / SHARDED 모드는 항상 사용)
+ * 내역은 PointHistoryStore 가 id 를 발급해서 저장하고 조회도 담당한다.
+ * PointHistoryTable 은 동시 호출에 안전하지 않으므로 (cursor++, ArrayList.add) 저장소의 내역을 한 번에 하나씩 옮겨 적는다.
+ * 이 옮겨 적기는 기본적으로 PointHistoryPipeline 이 유저 락 밖에서 모아서 처리한다.
+ * (history-pipeline 을 끄면 유저 락 안에서 전역 락을 잡고 옮겨 적으므로 모든 유저의 변경이 직렬화된다. 비교용)
+ * (조회는 저장소를 보므로 호출한 쪽은 자기 변경 내역을 바로 볼 수 있다)
+ * write-through 모드의 잔액 조회는 PointBalanceCache 를 먼저 보고, 저장 시 같은 락 구간에서 캐시를 갱신한다.
+ * journal 을 켜면 저장된 내역을 PointJournal 에도 기록하고, 시작 시 복구한 잔액을 테이블보다 먼저 본다.
+ * 유저별 집계(PointAggregates)는 잔액 저장이 끝난 뒤 같은 구간에서 갱신한다. (write-behind 면 메모리 잔액과 함께)
+ * expiry 를 켜면 충전 lot 장부(PointLots)도 집계와 함께 갱신하고, 만료된 lot 은 expire 로 EXPIRE 내역을 남기며 소멸시킨다.
+ *
+ * 변경(commit)은 호출하는 쪽에서 유저 단위로 직렬화되어 있어야 한다. (PointService 의 Lock)
+ */
+@Component
+public class PointLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLedger.class);
+
+    private final UserPointTable userPointTable;
+    private final PointHistoryTable pointHistoryTable;
+    private final PointHistoryStore pointHistoryStore;
+    private final PointMetrics pointMetrics;
+    private final PointWriteBehind writeBehind;
+    private final PointHistoryPipeline historyPipeline;
+    private final PointJournal journal;
+    private final PointBalanceCache cache;
+    private final PointAggregates aggregates;
+    private final PointLots lots;
+    private final ConcurrentMap<Long, UserPoint> balances = new ConcurrentHashMap<>();
+    // 저널에서 복구했지만 아직 테이블에 저장되지 않은 잔액
+    private final ConcurrentMap<Long, UserPoint> restored = new ConcurrentHashMap<>();
+    // PointHistoryTable 호출 직렬화 (유저가 달라도 테이블 내부 상태를 공유한다)
+    private final ReentrantLock historyTableLock = new ReentrantLock();
+
+    public PointLedger(
+        UserPointTable userPointTable,
+        PointHistoryTable pointHistoryTable,
+        PointHistoryStore pointHistoryStore,
+        PointMetrics pointMetrics,
+        PointProperties properties
+    ) {
+        this.userPointTable = userPointTable;
+        this.pointHistoryTable = pointHistoryTable;
+        this.pointHistoryStore = pointHistoryStore;
+        this.pointMetrics = pointMetrics;
+        this.writeBehind = writeBehindEnabled(properties)
+            ? new PointWriteBehind(
+                properties.getWriteBehind(),
+                Threads.factory("point-write-behind", properties.isVirtualThreads())
+            )
+            : null;
+        this.historyPipeline = properties.getHistoryPipeline().isEnabled()
+            ? new PointHistoryPipeline(
+                properties.getHistoryPipeline(),
+                Threads.factory("point-history", properties.isVirtualThreads()),
+                this::mirrorAll
+            )
+            : null;
+        if (historyPipeline != null) {
+            pointMetrics.bindHistoryPipeline(historyPipeline);
+        } else {
+            log.warn("point.history-pipeline 이 꺼져 있어 PointHistoryTable 저장이 유저 락 안에서 모든 유저에 걸쳐 직렬화됩니다.");
+        }
+        this.journal = properties.getJournal().isEnabled()
+            ? openJournal(properties.getJournal())
+            : null;
+        this.cache = properties.getCache().isEnabled() && writeBehind == null
+            ? new PointBalanceCache(properties.getCache())
+            : null;
+        if (cache != null) {
+            pointMetrics.bindCache(cache);
+        }
+        this.aggregates = new PointAggregates(properties.getSummary());
+        this.lots = properties.getExpiry().isEnabled() ? openLots(properties) : null;
+        if (lots != null) {
+            pointMetrics.bindExpiry(lots);
+        }
+    }
+
+    /**
+     * 현재 잔액 조회
+     */
+    public UserPoint current(long userId) {
+        if (writeBehind == null) {
+            return cache != null ? cache.get(userId, this::load) : select(userId);
+        }
+        UserPoint cached = balances.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        // 테이블에는 메모리에 먼저 반영된 값만 저장되므로, 이미 값이 있으면 그쪽이 최신
+        UserPoint loaded = select(userId);
+        UserPoint previous = balances.putIfAbsent(userId, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    /**
+     * 검증이 끝난 잔액 변경을 반영하고 내역을 남긴다
+     */
+    public UserPoint commit(long userId, long newBalance, TransactionType type, long amount) {
+        return commitAll(userId, newBalance, List.of(new PointCommand(userId, type, amount)));
+    }
+
+    /**
+     * 여러 건의 변경을 한 번에 반영한다. 잔액은 최종 값만 저장하고, 내역은 요청 순서대로 남긴다
+     */
+    public UserPoint commitAll(long userId, long newBalance, List<PointCommand> commands) {
+        long now = System.currentTimeMillis();
+        if (writeBehind == null) {
+            // 저장에 실패한 변경은 집계 / lot 장부에 넣지 않는다
+            UserPoint updated = persist(userId, newBalance, commands, now);
+            record(userId, newBalance, commands, now);
+            return updated;
+        }
+        UserPoint updated = new UserPoint(userId, newBalance, now);
+        balances.put(userId, updated);
+        record(userId, newBalance, commands, now);
+        writeBehind.submit(userId, () -> persist(userId, newBalance, commands, now));
+        return updated;
+    }
+
+    /**
+     * 만료 시각이 지난 lot 의 남은 금액을 EXPIRE 로 잔액에서 뺀다. 유저 단위로 직렬화된 구간에서 호출한다
+     * 그 사이 모두 사용해서 소멸할 금액이 없으면 null
+     */
+    public UserPoint expire(long userId, long now) {
+        if (lots == null) {
+            return null;
+        }
+        List<PointCommand> commands = lots.expirable(userId, now);
+        if (commands.isEmpty()) {
+            return null;
+        }
+        long balance = current(userId).point();
+        for (PointCommand command : commands) {
+            balance = PointPolicy.apply(balance, command.type(), command.amount());
+        }
+        return commitAll(userId, balance, commands);
+    }
+
+    /**
+     * 만료 시각이 지난 lot (expiry 를 끄면 항상 비어 있다)
+     */
+    public List<PointLot> dueLots(long now) {
+        return lots != null ? lots.due(now) : List.of();
+    }
+
+    /**
+     * 만료 처리를 다음 tick 으로 미룬다
+     */
+    public void retryExpiry(PointLot lot) {
+        lots.retry(lot);
+    }
+
+    public boolean expiryEnabled() {
+        return lots != null;
+    }
+
+    public PointExpiryStats expiryStats() {
+        return lots != null ? lots.stats() : new PointExpiryStats(0L, 0L, 0L);
+    }
+
+    /**
+     * 포인트 내역 조회. write-behind 모드에서는 해당 유저의 대기 중인 저장을 먼저 끝낸다
+     * (history-pipeline 은 기다리지 않는다. 저장소에는 이미 반영되어 있다)
+     */
+    public List<PointHistory> histories(long userId) {
+        return histories(userId, null);
+    }
+
+    /**
+     * 종류별 포인트 내역 조회. type 이 null 이면 전체
+     */
+    public List<PointHistory> histories(long userId, TransactionType type) {
+        flush(userId);
+        return pointHistoryStore.selectAll(userId, type);
+    }
+
+    /**
+     * 포인트 내역 페이지 조회
+     */
+    public PointHistoryPage historyPage(long userId, long cursor, int limit, TransactionType type) {
+        flush(userId);
+        return pointHistoryStore.selectPage(userId, cursor, limit, type);
+    }
+
+    /**
+     * 유저별 누적 / 최근 구간 집계
+     */
+    public PointSummary summary(long userId) {
+        return aggregates.summary(userId, System.currentTimeMillis());
+    }
+
+    /**
+     * 잔액 캐시 통계. 캐시를 쓰지 않으면 null
+     */
+    public PointCacheStats cacheStats() {
+        return cache != null ? cache.stats() : null;
+    }
+
+    /**
+     * 내역 파이프라인 통계. 파이프라인을 쓰지 않으면 null
+     */
+    public PointHistoryPipelineStats historyPipelineStats() {
+        return historyPipeline != null ? historyPipeline.stats() : null;
+    }
+
+    /**
+     * 대기 중인 저장을 모두 테이블에 반영 (테스트용)
+     */
+    public void flush() {
+        if (writeBehind != null) {
+            writeBehind.flushAll();
+        }
+        if (historyPipeline != null) {
+            historyPipeline.flushAll();
+        }
+    }
+
+    private UserPoint persist(long userId, long newBalance, List<PointCommand> commands, long updateMillis) {
+        long started = System.nanoTime();
+        UserPoint updated = userPointTable.insertOrUpdate(userId, newBalance);
+        pointMetrics.recordUpdate(System.nanoTime() - started);
+        restored.remove(userId);
+        if (cache != null) {
+            cache.update(updated);
+        }
+
+        for (PointCommand command : commands) {
+            PointHistory history = pointHistoryStore.append(userId, command.amount(), command.type(), updateMillis);
+            if (historyPipeline != null) {
+                historyPipeline.submit(history);
+            } else {
+                mirror(history);
+            }
+            if (journal != null) {
+                journal.append(history);
+            }
+        }
+        return updated;
+    }
+
+    private void record(long userId, long newBalance, List<PointCommand> commands, long now) {
+        for (PointCommand command : commands) {
+            aggregates.record(userId, command.type(), command.amount(), now);
+        }
+        if (lots != null) {
+            lots.record(userId, newBalance, commands, now);
+        }
+    }
+
+    private void mirror(PointHistory history) {
+        long started = System.nanoTime();
+        historyTableLock.lock();
+        try {
+            insert(history);
+        } finally {
+            historyTableLock.unlock();
+        }
+        pointMetrics.recordHistoryInsert(System.nanoTime() - started);
+    }
+
+    /**
+     * 파이프라인이 모은 내역을 순서대로 옮겨 적는다. 테이블 락은 묶음마다 한 번만 잡는다
+     */
+    private void mirrorAll(List<PointHistory> histories) {
+        historyTableLock.lock();
+        try {
+            for (PointHistory history : histories) {
+                long started = System.nanoTime();
+                insert(history);
+                pointMetrics.recordHistoryInsert(System.nanoTime() - started);
+            }
+        } finally {
+            historyTableLock.unlock();
+        }
+    }
+
+    private void insert(PointHistory history) {
+        pointHistoryTable.insert(history.userId(), history.amount(), history.type(), history.updateMillis());
+    }
+
+    private UserPoint load(long userId) {
+        long started = System.nanoTime();
+        UserPoint loaded = select(userId);
+        pointMetrics.recordCacheLoad(System.nanoTime() - started);
+        return loaded;
+    }
+
+    private UserPoint select(long userId) {
+        UserPoint recovered = restored.get(userId);
+        if (recovered != null) {
+            return recovered;
+        }
+        long started = System.nanoTime();
+        UserPoint userPoint = userPointTable.selectById(userId);
+        pointMetrics.recordSelect(System.nanoTime() - started);
+        return userPoint;
+    }
+
+    /**
+     * SHARDED 모드는 shard 스레드가 유저의 변경을 하나씩 처리하고, CAS 모드는 순번 순서대로 하나씩 저장하므로
+     * 테이블 저장을 기다리면 LOCK 모드처럼 테이블 지연에 직렬화된다.
+     * 두 모드는 잔액을 메모리에서 확정하고 저장은 write-behind 에 넘기도록 항상 켠다
+     */
+    private static boolean writeBehindEnabled(PointProperties properties) {
+        if (properties.getWriteBehind().isEnabled()) {
+            return true;
+        }
+        PointExecutionMode mode = properties.getExecutionMode();
+        if (mode == PointExecutionMode.SHARDED || mode == PointExecutionMode.CAS) {
+            log.info("{} 모드는 테이블 저장을 기다리지 않도록 point.write-behind 를 켭니다.", mode);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 만료는 유저 락으로 다른 변경과 직렬화해야 하므로 LOCK / GROUP_COMMIT 모드에서만 켠다
+     * (CAS 는 잔액을 락 밖에서 바꾸고, SHARDED 는 유저마다 처리 스레드가 정해져 있다)
+     */
+    private PointLots openLots(PointProperties properties) {
+        PointExecutionMode mode = properties.getExecutionMode();
+        if (mode != PointExecutionMode.LOCK && mode != PointExecutionMode.GROUP_COMMIT) {
+            log.warn("{} 모드에서는 포인트 만료를 지원하지 않아 point.expiry 설정을 무시합니다.", mode);
+            return null;
+        }
+        return new PointLots(properties.getExpiry());
+    }
+
+    private PointJournal openJournal(PointProperties.Journal properties) {
+        PointJournal opened = new PointJournal(
+            Path.of(properties.getDirectory()),
+            properties.getSyncInterval(),
+            properties.getSnapshotInterval()
+        );
+        long now = System.currentTimeMillis();
+        opened.balances().forEach((userId, balance) -> restored.put(userId, new UserPoint(userId, balance, now)));
+        return opened;
+    }
+
+    private void flush(long userId) {
+        if (writeBehind != null) {
+            writeBehind.flush(userId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writeBehind != null) {
+            writeBehind.shutdown();
+        }
+        // write-behind 가 마지막으로 넘긴 내역까지 반영한 뒤 종료
+        if (historyPipeline != null) {
+            historyPipeline.shutdown();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.util.TimingWheel;
+
+/**
+ * 충전 한 건으로 생긴 포인트 묶음 (lot). 남은 금액이 있으면 만료 시각(deadline)에 소멸한다
+ * 남은 금액은 유저 단위로 직렬화된 구간(PointLots.record / expirable)에서만 바뀐다
+ */
+public final class PointLot extends TimingWheel.Entry {
+    private final long userId;
+    private long remaining;
+
+    PointLot(long userId, long amount, long expiresAt) {
+        super(expiresAt);
+        this.userId = userId;
+        this.remaining = amount;
+    }
+
+    public long userId() {
+        return userId;
+    }
+
+    public long remaining() {
+        return remaining;
+    }
+
+    /**
+     * amount 까지 차감하고 실제로 차감한 금액을 돌려준다
+     */
+    long consume(long amount) {
+        long consumed = Math.min(remaining, amount);
+        remaining -= consumed;
+        return consumed;
+    }
+}
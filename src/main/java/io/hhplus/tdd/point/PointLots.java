@@ -0,0 +1,196 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.util.TimingWheel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 충전 lot 장부 (point.expiry)
+ * - 충전 / 송금 받기는 lot 을 뒤에 붙이고, 사용 / 송금 보내기는 가장 오래된 lot 부터 차감한다
+ * - lot 의 만료 시각은 TimingWheel 에 걸어 두고, 다 쓴 lot 은 휠에서 바로 뺀다. 만료 처리 비용은 만료되는 lot 수에만 비례한다
+ * - 장부를 만들기 전의 잔액(untracked)은 가장 오래된 잔액으로 보고 먼저 차감하며, 만료되지 않는다
+ *   (lot 은 메모리에만 있으므로 재시작하면 남은 잔액은 untracked 가 된다)
+ * 유저별 변경(record / expirable)은 호출하는 쪽에서 유저 단위로 직렬화되어 있어야 한다. 휠은 내부 락으로 보호한다.
+ */
+public class PointLots {
+
+    private final long ttlMillis;
+    private final TimingWheel<PointLot> wheel;
+    private final ReentrantLock wheelLock = new ReentrantLock();
+    private final ConcurrentMap<Long, Book> books = new ConcurrentHashMap<>();
+    // 걸 때 이미 만료 시각이 지났거나, 유저 락을 못 잡아서 다음 tick 으로 미룬 lot
+    private final Queue<PointLot> retries = new ConcurrentLinkedQueue<>();
+    private final LongAdder live = new LongAdder();
+    private final LongAdder expiredLots = new LongAdder();
+    private final LongAdder expiredAmount = new LongAdder();
+
+    public PointLots(PointProperties.Expiry properties) {
+        this(properties, System.currentTimeMillis());
+    }
+
+    PointLots(PointProperties.Expiry properties, long startMillis) {
+        this.ttlMillis = properties.getTtl().toMillis();
+        this.wheel = new TimingWheel<>(
+            Math.max(1L, properties.getTick().toMillis()), properties.getWheelSize(), startMillis);
+    }
+
+    /**
+     * commit 된 변경을 장부에 반영한다. newBalance 는 commands 를 모두 반영한 잔액
+     */
+    public void record(long userId, long newBalance, List<PointCommand> commands, long now) {
+        Book book = books.get(userId);
+        if (book == null) {
+            book = new Book(newBalance - net(commands));
+            books.put(userId, book);
+        }
+        List<PointLot> consumed = new ArrayList<>(0);
+        for (PointCommand command : commands) {
+            TransactionType type = command.type();
+            if (type.isCredit()) {
+                schedule(book.append(userId, command.amount(), now + ttlMillis));
+            } else if (type == TransactionType.EXPIRE) {
+                // 만료는 만료 시각이 지난 lot 에서만 뺀다 (untracked 는 소멸하지 않는다)
+                book.consume(command.amount(), false, consumed);
+                expiredLots.increment();
+                expiredAmount.add(command.amount());
+            } else {
+                book.consume(command.amount(), true, consumed);
+            }
+        }
+        if (!consumed.isEmpty()) {
+            unschedule(consumed);
+        }
+    }
+
+    /**
+     * 만료 시각이 지난 lot 마다 남은 금액만큼의 EXPIRE 변경 (오래된 순)
+     * 차감은 이 변경을 commit 할 때 record 에서 한다
+     */
+    public List<PointCommand> expirable(long userId, long now) {
+        Book book = books.get(userId);
+        if (book == null) {
+            return List.of();
+        }
+        List<PointCommand> commands = new ArrayList<>();
+        for (PointLot lot : book.lots) {
+            if (lot.deadline() > now) {
+                break;
+            }
+            commands.add(new PointCommand(userId, TransactionType.EXPIRE, lot.remaining()));
+        }
+        return commands;
+    }
+
+    /**
+     * 휠을 now 까지 진행해서 만료 시각이 지난 lot 을 꺼낸다 (미뤄 둔 lot 포함, 같은 유저가 여러 번 나올 수 있다)
+     */
+    public List<PointLot> due(long now) {
+        List<PointLot> due = new ArrayList<>();
+        List<PointLot> later = new ArrayList<>();
+        PointLot retry;
+        while ((retry = retries.poll()) != null) {
+            (retry.deadline() <= now ? due : later).add(retry);
+        }
+        retries.addAll(later);
+
+        wheelLock.lock();
+        try {
+            wheel.advance(now, due::add);
+        } finally {
+            wheelLock.unlock();
+        }
+        return due;
+    }
+
+    /**
+     * 만료 처리를 다음 tick 으로 미룬다
+     */
+    public void retry(PointLot lot) {
+        retries.add(lot);
+    }
+
+    public PointExpiryStats stats() {
+        return new PointExpiryStats(live.sum(), expiredLots.sum(), expiredAmount.sum());
+    }
+
+    private void schedule(PointLot lot) {
+        live.increment();
+        boolean scheduled;
+        wheelLock.lock();
+        try {
+            scheduled = wheel.add(lot);
+        } finally {
+            wheelLock.unlock();
+        }
+        if (!scheduled) {
+            retries.add(lot);
+        }
+    }
+
+    private void unschedule(List<PointLot> consumed) {
+        live.add(-consumed.size());
+        wheelLock.lock();
+        try {
+            for (PointLot lot : consumed) {
+                wheel.remove(lot);
+            }
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    private static long net(List<PointCommand> commands) {
+        long net = 0L;
+        for (PointCommand command : commands) {
+            net += command.type().isCredit() ? command.amount() : -command.amount();
+        }
+        return net;
+    }
+
+    /**
+     * 유저 한 명의 장부. lot 은 만료 시각 순(= 충전 순)으로 쌓인다
+     */
+    private static final class Book {
+        private long untracked;
+        private final ArrayDeque<PointLot> lots = new ArrayDeque<>(4);
+
+        Book(long untracked) {
+            this.untracked = untracked;
+        }
+
+        PointLot append(long userId, long amount, long expiresAt) {
+            PointLot last = lots.peekLast();
+            // 시계가 되돌아가도 뒤에 붙는 lot 이 앞 lot 보다 먼저 만료되지 않게 한다
+            long deadline = last != null ? Math.max(last.deadline(), expiresAt) : expiresAt;
+            PointLot lot = new PointLot(userId, amount, deadline);
+            lots.addLast(lot);
+            return lot;
+        }
+
+        /**
+         * 오래된 잔액부터 amount 만큼 차감한다. 다 쓴 lot 은 장부에서 빼고 consumed 에 모은다
+         */
+        void consume(long amount, boolean fromUntracked, List<PointLot> consumed) {
+            long left = amount;
+            if (fromUntracked) {
+                long taken = Math.min(untracked, left);
+                untracked -= taken;
+                left -= taken;
+            }
+            while (left > 0 && !lots.isEmpty()) {
+                PointLot oldest = lots.peekFirst();
+                left -= oldest.consume(left);
+                if (oldest.remaining() == 0) {
+                    consumed.add(lots.pollFirst());
+                }
+            }
+        }
+    }
+}
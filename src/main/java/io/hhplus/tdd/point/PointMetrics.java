@@ -0,0 +1,268 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.response.ErrorCode;
+import io.hhplus.tdd.common.util.HotKeyTracker;
+import io.hhplus.tdd.common.util.Lock;
+import io.hhplus.tdd.common.util.LockObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 포인트 처리 구간별 지표
+ * - point.lock.wait / point.lock.hold : 유저 락 대기 / 점유 시간
+ * - point.table.select / point.table.update / point.history.insert : 테이블 호출 시간
+ * - point.rejections{code} : ErrorCode 별 거절 수
+ * - point.lock.hot.wait{rank} : 락 대기 시간이 가장 많이 누적된 유저 상위 N 명
+ * - point.lock.rejections{reason} : 락 대기열 / 대기 시간 한도를 넘어 거절한 수
+ * - point.history.pipeline.* : 유저 락 밖에서 모아 쓰는 내역의 대기 / 반영 수
+ * - point.cache.* : 잔액 캐시 적중 / 실패 / 밀어냄 수와 miss 시 테이블 조회 시간
+ * - point.shard.queue{shard} / point.shard.processed{shard} : SHARDED 모드의 shard 별 대기열 길이와 처리 수
+ *
+ * 미터는 생성 시점에 모두 등록해 두고, 요청 경로에서는 nanoTime 과 record 만 호출한다.
+ */
+@Component
+public class PointMetrics implements LockObserver {
+    public static final int TOP_N = 10;
+    private static final int HOT_USER_SLOTS = 4096;
+
+    private final Timer lockWait;
+    private final Timer lockHold;
+    private final Timer tableSelect;
+    private final Timer tableUpdate;
+    private final Timer historyInsert;
+    private final Timer cacheLoad;
+    private final MeterRegistry registry;
+    private final Lock lock;
+    private final Map<ErrorCode, Counter> rejections = new EnumMap<>(ErrorCode.class);
+    private final HotKeyTracker hotUsers = new HotKeyTracker(HOT_USER_SLOTS);
+
+    public PointMetrics(MeterRegistry registry, Lock lock) {
+        this.lockWait = timer(registry, "point.lock.wait", "유저 락 획득 대기 시간");
+        this.lockHold = timer(registry, "point.lock.hold", "유저 락 점유 시간");
+        this.tableSelect = timer(registry, "point.table.select", "UserPointTable.selectById 시간");
+        this.tableUpdate = timer(registry, "point.table.update", "UserPointTable.insertOrUpdate 시간");
+        this.historyInsert = timer(registry, "point.history.insert", "PointHistoryTable.insert 시간");
+        this.cacheLoad = timer(registry, "point.cache.load", "잔액 캐시 miss 시 조회 시간");
+        this.registry = registry;
+        this.lock = lock;
+
+        for (ErrorCode code : ErrorCode.values()) {
+            rejections.put(code, Counter.builder("point.rejections")
+                .description("거절된 포인트 요청 수")
+                .tag("code", code.name())
+                .register(registry));
+        }
+
+        Gauge.builder("point.lock.live", lock, l -> l.stats().liveLocks())
+            .description("메모리에 있는 유저 락 수")
+            .register(registry);
+        FunctionCounter.builder("point.lock.collisions", lock, l -> l.stats().collisions())
+            .description("다른 유저가 잡은 stripe 락을 기다린 횟수")
+            .register(registry);
+        FunctionCounter.builder("point.lock.rejections", lock, l -> l.stats().queueFullRejections())
+            .description("락 한도를 넘어 기다리지 않고 거절한 요청 수")
+            .tag("reason", "queue_full")
+            .register(registry);
+        FunctionCounter.builder("point.lock.rejections", lock, l -> l.stats().timeoutRejections())
+            .description("락 한도를 넘어 기다리지 않고 거절한 요청 수")
+            .tag("reason", "timeout")
+            .register(registry);
+        for (int rank = 1; rank <= TOP_N; rank++) {
+            int index = rank - 1;
+            Gauge.builder("point.lock.hot.wait", hotUsers, tracker -> hotWaitSeconds(tracker, index))
+                .description("락 대기 시간 누적 상위 유저의 대기 시간(초)")
+                .tag("rank", String.valueOf(rank))
+                .register(registry);
+        }
+    }
+
+    /**
+     * 생성이 끝난 뒤 락 대기/점유 시간을 받도록 등록한다 (생성 중인 객체를 락을 잡는 스레드에 노출하지 않는다)
+     */
+    @PostConstruct
+    public void observeLock() {
+        lock.setObserver(this);
+    }
+
+    @Override
+    public void acquired(long userId, long waitNanos) {
+        lockWait.record(waitNanos, TimeUnit.NANOSECONDS);
+        if (waitNanos > 0) {
+            hotUsers.add(userId, waitNanos);
+        }
+    }
+
+    @Override
+    public void released(long userId, long holdNanos) {
+        lockHold.record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSelect(long nanos) {
+        tableSelect.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordUpdate(long nanos) {
+        tableUpdate.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHistoryInsert(long nanos) {
+        historyInsert.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCacheLoad(long nanos) {
+        cacheLoad.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 잔액 캐시 통계를 미터로 등록한다
+     */
+    public void bindCache(PointBalanceCache cache) {
+        Gauge.builder("point.cache.size", cache, c -> c.stats().size())
+            .description("캐시된 유저 수")
+            .register(registry);
+        Gauge.builder("point.cache.hit.ratio", cache, c -> c.stats().hitRate())
+            .description("잔액 캐시 적중률")
+            .register(registry);
+        FunctionCounter.builder("point.cache.hits", cache, c -> c.stats().hits())
+            .description("잔액 캐시 적중 수")
+            .register(registry);
+        FunctionCounter.builder("point.cache.misses", cache, c -> c.stats().misses())
+            .description("잔액 캐시 실패 수")
+            .register(registry);
+        FunctionCounter.builder("point.cache.evictions", cache, c -> c.stats().evictions())
+            .description("크기 제한으로 밀려난 잔액 캐시 항목 수")
+            .register(registry);
+    }
+
+    /**
+     * 내역 파이프라인의 대기 / 반영 수를 미터로 등록한다
+     */
+    public void bindHistoryPipeline(PointHistoryPipeline pipeline) {
+        Gauge.builder("point.history.pipeline.pending", pipeline, p -> p.stats().pending())
+            .description("PointHistoryTable 반영을 기다리는 내역 수")
+            .register(registry);
+        FunctionCounter.builder("point.history.pipeline.applied", pipeline, p -> p.stats().applied())
+            .description("PointHistoryTable 에 반영한 내역 수")
+            .register(registry);
+        FunctionCounter.builder("point.history.pipeline.batches", pipeline, p -> p.stats().batches())
+            .description("내역 묶음 반영 횟수")
+            .register(registry);
+    }
+
+    /**
+     * 충전 lot 수와 만료로 소멸한 lot / 포인트를 미터로 등록한다
+     */
+    public void bindExpiry(PointLots lots) {
+        Gauge.builder("point.expiry.lots", lots, l -> l.stats().liveLots())
+            .description("남은 금액이 있는 충전 lot 수")
+            .register(registry);
+        FunctionCounter.builder("point.expiry.expired", lots, l -> l.stats().expiredLots())
+            .description("만료로 소멸한 lot 수")
+            .register(registry);
+        FunctionCounter.builder("point.expiry.amount", lots, l -> l.stats().expiredAmount())
+            .description("만료로 소멸한 포인트 합계")
+            .register(registry);
+    }
+
+    /**
+     * Idempotency-Key 중복 적중률과 키 저장소 메모리를 미터로 등록한다
+     */
+    public void bindIdempotency(PointIdempotencyStore store) {
+        Gauge.builder("point.idempotency.size", store, s -> s.stats().size())
+            .description("저장된 Idempotency-Key 수")
+            .register(registry);
+        Gauge.builder("point.idempotency.memory", store, s -> s.stats().estimatedBytes())
+            .description("Idempotency-Key 저장소 메모리 추정치")
+            .baseUnit("bytes")
+            .register(registry);
+        Gauge.builder("point.idempotency.hit.ratio", store, s -> s.stats().hitRate())
+            .description("재시도로 처음 결과를 돌려준 비율")
+            .register(registry);
+        FunctionCounter.builder("point.idempotency.hits", store, s -> s.stats().hits())
+            .description("재시도로 처음 결과를 돌려준 수")
+            .register(registry);
+        FunctionCounter.builder("point.idempotency.misses", store, s -> s.stats().misses())
+            .description("새 키로 처리한 수")
+            .register(registry);
+        FunctionCounter.builder("point.idempotency.mismatches", store, s -> s.stats().mismatches())
+            .description("같은 키로 다른 요청이 와서 거절한 수")
+            .register(registry);
+    }
+
+    /**
+     * 시작 시 예열 시간과 미리 읽은 유저 수를 미터로 등록한다
+     */
+    public void bindWarmUp(PointWarmUp warmUp) {
+        Gauge.builder("point.warmup.duration", warmUp, w -> w.stats().durationMillis() / 1_000.0)
+            .description("시작 시 예열에 걸린 시간")
+            .baseUnit("seconds")
+            .register(registry);
+        Gauge.builder("point.warmup.users", warmUp, w -> w.stats().users())
+            .description("시작 시 잔액을 미리 읽은 유저 수")
+            .register(registry);
+    }
+
+    /**
+     * shard 별 대기열 길이와 처리 수를 미터로 등록한다
+     */
+    public void bindShards(PointShardExecutor executor) {
+        for (int shard = 0; shard < executor.shardCount(); shard++) {
+            int index = shard;
+            Gauge.builder("point.shard.queue", executor, e -> e.stats().get(index).queueDepth())
+                .description("shard 대기열에 쌓인 요청 수")
+                .tag("shard", String.valueOf(index))
+                .register(registry);
+            FunctionCounter.builder("point.shard.processed", executor, e -> e.stats().get(index).processed())
+                .description("shard 가 처리한 요청 수")
+                .tag("shard", String.valueOf(index))
+                .register(registry);
+        }
+    }
+
+    public void rejected(ErrorCode errorCode) {
+        rejections.get(errorCode).increment();
+    }
+
+    /**
+     * 락 대기 시간 누적 상위 유저 (userId, 누적 대기 nanos)
+     */
+    public List<HotKeyTracker.Entry> hotUsers() {
+        return hotUsers.top(TOP_N);
+    }
+
+    public Map<String, Timer> timers() {
+        return Map.of(
+            "lockWait", lockWait,
+            "lockHold", lockHold,
+            "tableSelect", tableSelect,
+            "tableUpdate", tableUpdate,
+            "historyInsert", historyInsert,
+            "cacheLoad", cacheLoad
+        );
+    }
+
+    public Map<ErrorCode, Counter> rejections() {
+        return rejections;
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String description) {
+        return Timer.builder(name)
+            .description(description)
+            .publishPercentiles(0.5, 0.99)
+            .register(registry);
+    }
+
+    private static double hotWaitSeconds(HotKeyTracker tracker, int index) {
+        List<HotKeyTracker.Entry> top = tracker.top(index + 1);
+        return top.size() > index ? top.get(index).value() / 1e9 : 0;
+    }
+}
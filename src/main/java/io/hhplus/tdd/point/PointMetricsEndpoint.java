@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.util.Lock;
+import io.micrometer.core.instrument.Timer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * GET /actuator/points - 포인트 처리 지표 요약
+ */
+@Component
+@Endpoint(id = "points")
+@RequiredArgsConstructor
+public class PointMetricsEndpoint {
+
+    private final PointMetrics pointMetrics;
+    private final PointLedger pointLedger;
+    private final PointShardExecutor pointShardExecutor;
+    private final PointIdempotencyStore pointIdempotencyStore;
+    private final PointWarmUp pointWarmUp;
+    private final Lock lock;
+
+    @ReadOperation
+    public Map<String, Object> metrics() {
+        Map<String, Object> timers = new LinkedHashMap<>();
+        pointMetrics.timers().forEach((name, timer) -> timers.put(name, summary(timer)));
+
+        Map<String, Double> rejections = new LinkedHashMap<>();
+        pointMetrics.rejections().forEach((code, counter) -> rejections.put(code.name(), counter.count()));
+
+        List<Map<String, Object>> hotUsers = pointMetrics.hotUsers().stream()
+            .map(entry -> Map.<String, Object>of(
+                "userId", entry.key(),
+                "lockWaitMillis", entry.value() / 1_000_000.0
+            ))
+            .toList();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timers", timers);
+        result.put("rejections", rejections);
+        result.put("lock", lock.stats());
+        result.put("hotUsers", hotUsers);
+        result.put("cache", pointLedger.cacheStats());
+        result.put("historyPipeline", pointLedger.historyPipelineStats());
+        result.put("expiry", pointLedger.expiryStats());
+        result.put("shards", pointShardExecutor.stats());
+        result.put("idempotency", pointIdempotencyStore.stats());
+        result.put("warmUp", pointWarmUp.stats());
+        return result;
+    }
+
+    private Map<String, Object> summary(Timer timer) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", timer.count());
+        summary.put("meanMillis", timer.mean(TimeUnit.MILLISECONDS));
+        summary.put("maxMillis", timer.max(TimeUnit.MILLISECONDS));
+        return summary;
+    }
+}
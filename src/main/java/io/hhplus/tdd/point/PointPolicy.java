@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.response.ErrorCode;
+
+/**
+ * 포인트 잔액 규칙
+ * - 충전/사용/송금 금액은 최소 100원
+ * - 잔액은 0 이상, 최대 100,000원
+ */
+public final class PointPolicy {
+    public static final long MIN_AMOUNT = 100L;
+    public static final long MAX_BALANCE = 100_000L;
+
+    private PointPolicy() {
+    }
+
+    /**
+     * 현재 잔액에 충전/사용을 적용한 새 잔액. 규칙을 어기면 예외
+     */
+    public static long apply(long balance, TransactionType type, long amount) {
+        if (type.isCredit()) {
+            long newBalance = balance + amount;
+            if (newBalance > MAX_BALANCE) {
+                throw BaseException.of(ErrorCode.POINT_BALANCE_OVER);
+            }
+            return newBalance;
+        }
+
+        long newBalance = balance - amount;
+        if (newBalance < 0) {
+            throw BaseException.of(ErrorCode.POINT_BALANCE_NEGATIVE);
+        }
+        return newBalance;
+    }
+}
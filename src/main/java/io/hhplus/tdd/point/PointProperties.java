@@ -0,0 +1,195 @@
+package io.hhplus.tdd.point;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 포인트 기능 설정 (application.yml 의 point.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point")
+public class PointProperties {
+
+    private PointExecutionMode executionMode = PointExecutionMode.LOCK;
+    // write-behind 워커와 일괄 충전 파티션을 virtual thread 로 실행 (spring.threads.virtual.enabled 를 따른다)
+    private boolean virtualThreads = false;
+    private final WriteBehind writeBehind = new WriteBehind();
+    private final HistoryPipeline historyPipeline = new HistoryPipeline();
+    private final GroupCommit groupCommit = new GroupCommit();
+    private final Bulk bulk = new Bulk();
+    private final Journal journal = new Journal();
+    private final Cache cache = new Cache();
+    private final Shard shard = new Shard();
+    private final Summary summary = new Summary();
+    private final Idempotency idempotency = new Idempotency();
+    private final WarmUp warmUp = new WarmUp();
+    private final Reactive reactive = new Reactive();
+    private final Expiry expiry = new Expiry();
+
+    /**
+     * 잔액을 메모리에서 확정하고, 테이블 저장은 비동기로 처리하는 모드
+     */
+    @Getter
+    @Setter
+    public static class WriteBehind {
+        private boolean enabled = false;
+        // 유저 단위 순서를 보장하는 저장 워커 수
+        private int workers = 4;
+        // 워커별 대기열 크기. 가득 차면 요청 스레드가 대기한다 (backpressure)
+        private int queueCapacity = 10_000;
+        // 종료 시 남은 저장 작업을 기다리는 최대 시간
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 내역을 유저 락 밖에서 모아서 PointHistoryTable 에 옮겨 적는 단계 (PointHistoryPipeline)
+     * 조회는 PointHistoryStore 가 담당하므로 반영 전이어도 내역 조회 결과는 같다
+     * 끄면 내역 저장이 유저 락 안에서 전역으로 직렬화된다 (비교용. 운영에서는 켜 둔다)
+     */
+    @Getter
+    @Setter
+    public static class HistoryPipeline {
+        private boolean enabled = true;
+        // 유저 단위 순서를 보장하는 워커 수. PointHistoryTable 은 한 번에 하나씩만 쓸 수 있어서 1 이면 충분하다
+        private int workers = 1;
+        // 워커별 대기열 크기. 가득 차면 요청 스레드가 대기한다 (backpressure)
+        private int queueCapacity = 10_000;
+        // 한 번에 꺼내서 반영할 최대 내역 수
+        private int batchSize = 256;
+        // 종료 시 남은 내역을 기다리는 최대 시간
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * GROUP_COMMIT 모드 설정
+     */
+    @Getter
+    @Setter
+    public static class GroupCommit {
+        // 한 번의 저장으로 묶을 최대 요청 수
+        private int maxBatchSize = 256;
+    }
+
+    /**
+     * 일괄 충전 설정
+     */
+    @Getter
+    @Setter
+    public static class Bulk {
+        // 병렬 처리 파티션 수. 0 이면 CPU 코어 수
+        private int parallelism = 0;
+        // 파티션별 대기열 크기. 가득 차면 요청 본문 읽기를 멈춘다
+        private int queueCapacity = 1_024;
+    }
+
+    /**
+     * 재시작 시 잔액 복구용 저널 (PointJournal)
+     */
+    @Getter
+    @Setter
+    public static class Journal {
+        private boolean enabled = false;
+        private String directory = "./data/journal";
+        // 이 간격마다 모아서 fsync 한다. 장애 시 이 구간의 변경은 잃을 수 있다
+        private Duration syncInterval = Duration.ofMillis(10);
+        // 레코드가 이만큼 쌓일 때마다 잔액 스냅샷을 남긴다. 0 이면 스냅샷 없음
+        private long snapshotInterval = 1_000_000;
+    }
+
+    /**
+     * 잔액 조회 캐시 (write-through 모드에서 UserPointTable.selectById 앞단)
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        // 캐시할 최대 유저 수. 넘으면 W-TinyLFU 기준으로 밀어낸다
+        private long maximumSize = 100_000;
+    }
+
+    /**
+     * SHARDED 모드 설정
+     */
+    @Getter
+    @Setter
+    public static class Shard {
+        // shard(단일 스레드) 수. 0 이면 CPU 코어 수
+        private int count = 0;
+        // shard 별 대기열 크기. 가득 차면 요청 스레드가 대기한다
+        private int queueCapacity = 10_000;
+    }
+
+    /**
+     * 유저별 집계 (GET /point/{id}/summary)
+     */
+    @Getter
+    @Setter
+    public static class Summary {
+        // 최근 구간 합계를 나누는 단위
+        private Duration bucketSize = Duration.ofDays(1);
+        // 최근 구간 = bucketSize x buckets
+        private int buckets = 30;
+    }
+
+    /**
+     * 충전 / 사용 재시도 중복 방지 (Idempotency-Key 헤더)
+     */
+    @Getter
+    @Setter
+    public static class Idempotency {
+        // 키를 기억하는 시간. 클라이언트 재시도 간격보다 길어야 한다
+        private Duration ttl = Duration.ofMinutes(10);
+        // 키 저장에 쓸 메모리 상한 (추정치). 넘으면 W-TinyLFU 기준으로 밀어낸다
+        private DataSize maximumMemory = DataSize.ofMegabytes(64);
+    }
+
+    /**
+     * 시작 시 잔액 미리 읽기 / 요청 경로 예열 (PointWarmUp)
+     */
+    @Getter
+    @Setter
+    public static class WarmUp {
+        private boolean enabled = false;
+        // 최근 활동한 userId 를 한 줄에 하나씩 적은 파일 (# 으로 시작하면 주석)
+        private String usersFile = "./data/hot-users.txt";
+        // 미리 읽을 최대 유저 수 (잔액 캐시 크기 이하 권장)
+        private int maxUsers = 100_000;
+        // 잔액 조회를 나눠 실행할 스레드 수. 조회가 대부분 대기이므로 코어 수보다 크게 잡는다. 0 이면 CPU 코어 수
+        private int parallelism = 64;
+        // 요청 경로 반복 횟수 (JIT 컴파일 유도)
+        private int iterations = 20_000;
+        // 예열 전체(미리 읽기 + 반복)의 최대 시간. 넘으면 남은 작업을 건너뛰고 트래픽을 받는다
+        private Duration maxDuration = Duration.ofSeconds(60);
+    }
+
+    /**
+     * /reactive/point 의 blocking 처리용 boundedElastic scheduler (ReactivePointService)
+     */
+    @Getter
+    @Setter
+    public static class Reactive {
+        // 최대 스레드 수. 0 이면 CPU 코어 수 x 10
+        private int threadCap = 0;
+        // 스레드가 모두 바쁠 때 쌓아 둘 수 있는 작업 수. 넘으면 RejectedExecutionException
+        private int queuedTaskCap = 100_000;
+    }
+
+    /**
+     * 충전 포인트 유효기간 (PointLots / PointExpiryScheduler). LOCK / GROUP_COMMIT 모드에서만 동작
+     */
+    @Getter
+    @Setter
+    public static class Expiry {
+        private boolean enabled = false;
+        // 충전 후 소멸까지의 기간
+        private Duration ttl = Duration.ofDays(365);
+        // 만료 검사 간격 (타이밍 휠 한 칸). 만료는 최대 이만큼 늦게 처리된다
+        private Duration tick = Duration.ofSeconds(1);
+        // 휠 한 단계의 칸 수. 윗 단계 한 칸 = tick x wheelSize
+        private int wheelSize = 512;
+    }
+}
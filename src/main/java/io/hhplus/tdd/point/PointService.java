@@ -3,99 +3,366 @@ package io.hhplus.tdd.point;
 import io.hhplus.tdd.common.response.ErrorCode;
 import io.hhplus.tdd.common.exception.BaseException;
 import io.hhplus.tdd.common.util.Lock;
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.common.util.Threads;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class PointService {
-    private static final long MIN_AMOUNT = 100L;
-    private static final long MAX_BALANCE = 100_000L;
+    private static final int MAX_HISTORY_PAGE_SIZE = 1_000;
+    private static final int MAX_TRANSFER_RECIPIENTS = 100;
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final PointLedger pointLedger;
+    private final PointGroupCommitter pointGroupCommitter;
+    private final PointCasEngine pointCasEngine;
+    private final PointShardExecutor pointShardExecutor;
     private final Lock lock;
+    private final PointMetrics pointMetrics;
+    private final PointProperties pointProperties;
 
     /**
      * 특정 유저의 현재 포인트 조회
      */
     public UserPoint getPoint(long userId) {
         validateUserId(userId);
-        return userPointTable.selectById(userId);
+        return pointLedger.current(userId);
     }
 
     /**
      * 특정 유저의 포인트 사용/충전 내역 조회
      */
     public List<PointHistory> getHistories(long userId) {
+        return getHistories(userId, (TransactionType) null);
+    }
+
+    /**
+     * 특정 유저의 종류별 전체 내역 조회. type 이 null 이면 전체
+     * 읽은 시점까지의 내역을 보는 뷰라서 내역이 많아도 복사하지 않는다 (스트리밍 응답용)
+     */
+    public List<PointHistory> getHistories(long userId, TransactionType type) {
+        validateUserId(userId);
+        return pointLedger.histories(userId, type);
+    }
+
+    /**
+     * 특정 유저의 포인트 내역을 커서 기반으로 조회. type 이 null 이면 전체
+     */
+    public PointHistoryPage getHistories(long userId, Long cursor, int limit, TransactionType type) {
+        validateUserId(userId);
+        long from = cursor == null ? 0L : Math.max(0L, cursor);
+        int size = Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+        return pointLedger.historyPage(userId, from, size, type);
+    }
+
+    /**
+     * 특정 유저의 누적 / 최근 구간 충전·사용 집계. 내역을 훑지 않는다
+     */
+    public PointSummary getSummary(long userId) {
         validateUserId(userId);
-        return pointHistoryTable.selectAllByUserId(userId);
+        return pointLedger.summary(userId);
     }
 
     /**
      * 포인트 충전
      */
     public UserPoint charge(long userId, long amount) {
-        validateUserId(userId);
-        validateAmount(amount);
+        return executeValidated(new PointCommand(userId, TransactionType.CHARGE, amount));
+    }
 
-        return lock.execute(userId, () -> {
-            UserPoint current = userPointTable.selectById(userId);
-            long newBalance = current.point() + amount;
+    /**
+     * 포인트 사용
+     */
+    public UserPoint use(long userId, long amount) {
+        return executeValidated(new PointCommand(userId, TransactionType.USE, amount));
+    }
 
-            if (newBalance > MAX_BALANCE) {
-                throw new BaseException(ErrorCode.POINT_BALANCE_OVER);
+    /**
+     * 포인트 충전 (비동기). SHARDED 모드가 아니면 호출한 스레드에서 처리한 결과를 돌려준다
+     */
+    public CompletableFuture<UserPoint> chargeAsync(long userId, long amount) {
+        return executeAsync(new PointCommand(userId, TransactionType.CHARGE, amount));
+    }
+
+    /**
+     * 포인트 사용 (비동기)
+     */
+    public CompletableFuture<UserPoint> useAsync(long userId, long amount) {
+        return executeAsync(new PointCommand(userId, TransactionType.USE, amount));
+    }
+
+    /**
+     * 송금. 보내는 유저와 받는 유저들의 락을 정해진 순서로 모두 잡고, 규칙 검사를 모두 통과했을 때만 반영한다
+     * - 보내는 유저에게는 받는 유저마다 TRANSFER_OUT, 받는 유저에게는 TRANSFER_IN 내역을 같은 시각으로 남긴다
+     * - 유저 락으로 직렬화하는 LOCK / GROUP_COMMIT 모드에서만 지원한다
+     *   (CAS 는 잔액을 락 밖에서 바꾸고, SHARDED 는 유저마다 처리 스레드가 달라서 여러 유저를 한 번에 바꿀 수 없다)
+     */
+    public PointTransferResult transfer(long fromUserId, List<PointTransferItem> recipients) {
+        try {
+            validateTransfer(fromUserId, recipients);
+            return executeTransfer(fromUserId, recipients);
+        } catch (BaseException e) {
+            pointMetrics.rejected(e.getErrorCode());
+            throw e;
+        }
+    }
+
+    /**
+     * 여러 유저 포인트 일괄 충전
+     * - userId 로 파티션을 나눠 병렬로 처리하므로, 같은 유저의 요청은 입력 순서대로 처리된다
+     * - 결과는 처리되는 대로 results 로 넘긴다. 여러 스레드에서 호출되고 입력 순서와 다를 수 있다
+     * - 파티션 대기열이 가득 차면 commands 를 더 읽지 않으므로 배치 전체를 메모리에 올리지 않는다
+     */
+    public void chargeAll(Iterator<PointCommand> commands, Consumer<PointBulkResult> results) {
+        PointProperties.Bulk bulk = pointProperties.getBulk();
+        int partitions = bulk.getParallelism() > 0
+            ? bulk.getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+
+        List<BlockingQueue<BulkItem>> queues = new ArrayList<>(partitions);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        ExecutorService executor = Executors.newFixedThreadPool(
+            partitions, Threads.factory("point-bulk", pointProperties.isVirtualThreads()));
+        List<Future<?>> workers = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            BlockingQueue<BulkItem> queue = new ArrayBlockingQueue<>(bulk.getQueueCapacity());
+            queues.add(queue);
+            workers.add(executor.submit(() -> chargePartition(queue, results, failure)));
+        }
+
+        try {
+            long index = 0;
+            while (failure.get() == null && commands.hasNext()) {
+                PointCommand command = commands.next();
+                int partition = Math.floorMod(Long.hashCode(command.userId() * 0x9E3779B97F4A7C15L), partitions);
+                queues.get(partition).put(new BulkItem(index++, command));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new IllegalStateException("일괄 충전이 중단되었습니다.", e));
+        } finally {
+            for (BlockingQueue<BulkItem> queue : queues) {
+                try {
+                    queue.put(BulkItem.END);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    executor.shutdownNow();
+                    break;
+                }
             }
+            awaitWorkers(workers, failure);
+            executor.shutdown();
+        }
 
-            UserPoint updated = userPointTable.insertOrUpdate(userId, newBalance);
-            pointHistoryTable.insert(
-                userId,
-                amount,
-                TransactionType.CHARGE,
-                System.currentTimeMillis()
-            );
-            return updated;
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private void chargePartition(
+        BlockingQueue<BulkItem> queue,
+        Consumer<PointBulkResult> results,
+        AtomicReference<RuntimeException> failure
+    ) {
+        while (true) {
+            BulkItem item;
+            try {
+                item = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (item == BulkItem.END) {
+                return;
+            }
+            // 다른 파티션이 실패하면 남은 항목은 읽기만 하고 버린다 (입력 쪽이 대기열에서 막히지 않도록)
+            if (failure.get() != null) {
+                continue;
+            }
+            PointCommand command = item.command();
+            PointBulkResult result;
+            try {
+                result = PointBulkResult.success(item.index(), charge(command.userId(), command.amount()));
+            } catch (BaseException e) {
+                result = PointBulkResult.failure(item.index(), command.userId(), e.getErrorCode());
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+                continue;
+            }
+            // 결과 쓰기가 실패해도 (클라이언트 연결 끊김 등) 워커는 END 까지 대기열을 계속 비운다
+            try {
+                results.accept(result);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    private void awaitWorkers(List<Future<?>> workers, AtomicReference<RuntimeException> failure) {
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                failure.compareAndSet(null, new IllegalStateException(e.getCause()));
+            }
+        }
+    }
+
+    private UserPoint executeValidated(PointCommand command) {
+        try {
+            validateUserId(command.userId());
+            validateAmount(command.amount());
+            return execute(command);
+        } catch (BaseException e) {
+            pointMetrics.rejected(e.getErrorCode());
+            throw e;
+        }
+    }
+
+    private CompletableFuture<UserPoint> executeAsync(PointCommand command) {
+        if (pointProperties.getExecutionMode() != PointExecutionMode.SHARDED) {
+            try {
+                return CompletableFuture.completedFuture(executeValidated(command));
+            } catch (BaseException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        try {
+            validateUserId(command.userId());
+            validateAmount(command.amount());
+        } catch (BaseException e) {
+            pointMetrics.rejected(e.getErrorCode());
+            return CompletableFuture.failedFuture(e);
+        }
+        return pointShardExecutor.submit(command).whenComplete((result, e) -> {
+            if (e instanceof BaseException rejected) {
+                pointMetrics.rejected(rejected.getErrorCode());
+            }
         });
     }
 
     /**
-     * 포인트 사용
+     * 유저 단위로 직렬화해서 잔액 변경을 적용
      */
-    public UserPoint use(long userId, long amount) {
-        validateUserId(userId);
-        validateAmount(amount);
+    private UserPoint execute(PointCommand command) {
+        switch (pointProperties.getExecutionMode()) {
+            case GROUP_COMMIT:
+                return pointGroupCommitter.submit(command);
+            case CAS:
+                return pointCasEngine.execute(command);
+            case SHARDED:
+                return await(pointShardExecutor.submit(command));
+            default:
+                break;
+        }
 
+        long userId = command.userId();
         return lock.execute(userId, () -> {
-            UserPoint current = userPointTable.selectById(userId);
-            long newBalance = current.point() - amount;
+            UserPoint current = pointLedger.current(userId);
+            long newBalance = PointPolicy.apply(current.point(), command.type(), command.amount());
+            return pointLedger.commit(userId, newBalance, command.type(), command.amount());
+        });
+    }
 
-            if (newBalance < 0) {
-                throw new BaseException(ErrorCode.POINT_BALANCE_NEGATIVE);
-            }
+    private PointTransferResult executeTransfer(long fromUserId, List<PointTransferItem> recipients) {
+        // 같은 유저에게 여러 번 보내면 합쳐서 검사한다 (요청에 처음 나온 순서 유지)
+        Map<Long, Long> received = new LinkedHashMap<>();
+        long total = 0L;
+        for (PointTransferItem recipient : recipients) {
+            received.merge(recipient.userId(), recipient.amount(), Long::sum);
+            total += recipient.amount();
+        }
+        long[] userIds = new long[received.size() + 1];
+        userIds[0] = fromUserId;
+        int index = 1;
+        for (long userId : received.keySet()) {
+            userIds[index++] = userId;
+        }
+
+        long sent = total;
+        return lock.executeAll(userIds, () -> {
+            // 모든 잔액 변경을 먼저 검사해서, 하나라도 어기면 아무것도 반영하지 않는다
+            long fromBalance = PointPolicy.apply(
+                pointLedger.current(fromUserId).point(), TransactionType.TRANSFER_OUT, sent);
+            Map<Long, Long> balances = new LinkedHashMap<>();
+            received.forEach((userId, amount) -> balances.put(
+                userId, PointPolicy.apply(pointLedger.current(userId).point(), TransactionType.TRANSFER_IN, amount)));
 
-            UserPoint updated = userPointTable.insertOrUpdate(userId, newBalance);
-            pointHistoryTable.insert(
-                userId,
-                amount,
-                TransactionType.USE,
-                System.currentTimeMillis()
-            );
-            return updated;
+            List<PointCommand> outgoing = new ArrayList<>(recipients.size());
+            Map<Long, List<PointCommand>> incoming = new LinkedHashMap<>();
+            for (PointTransferItem recipient : recipients) {
+                outgoing.add(new PointCommand(fromUserId, TransactionType.TRANSFER_OUT, recipient.amount()));
+                incoming.computeIfAbsent(recipient.userId(), userId -> new ArrayList<>())
+                    .add(new PointCommand(recipient.userId(), TransactionType.TRANSFER_IN, recipient.amount()));
+            }
+            UserPoint from = pointLedger.commitAll(fromUserId, fromBalance, outgoing);
+            List<UserPoint> to = new ArrayList<>(balances.size());
+            balances.forEach((userId, balance) -> to.add(pointLedger.commitAll(userId, balance, incoming.get(userId))));
+            return new PointTransferResult(from, to);
         });
     }
 
+    private void validateTransfer(long fromUserId, List<PointTransferItem> recipients) {
+        PointExecutionMode mode = pointProperties.getExecutionMode();
+        if (mode == PointExecutionMode.CAS || mode == PointExecutionMode.SHARDED) {
+            throw BaseException.of(ErrorCode.POINT_TRANSFER_UNSUPPORTED);
+        }
+        validateUserId(fromUserId);
+        if (recipients == null || recipients.isEmpty() || recipients.size() > MAX_TRANSFER_RECIPIENTS) {
+            throw BaseException.of(ErrorCode.POINT_TRANSFER_INVALID);
+        }
+        for (PointTransferItem recipient : recipients) {
+            validateUserId(recipient.userId());
+            validateAmount(recipient.amount());
+            // 잔액 상한을 넘는 금액은 보낼 수 없고, 합계가 넘치지 않게 한다
+            if (recipient.userId() == fromUserId || recipient.amount() > PointPolicy.MAX_BALANCE) {
+                throw BaseException.of(ErrorCode.POINT_TRANSFER_INVALID);
+            }
+        }
+    }
+
+    private static UserPoint await(CompletableFuture<UserPoint> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     private void validateUserId(long userId) {
         if (userId <= 0) {
-            throw new BaseException(ErrorCode.USER_NOT_FOUND);
+            throw BaseException.of(ErrorCode.USER_NOT_FOUND);
         }
     }
 
     private void validateAmount(long amount) {
-        if (amount < MIN_AMOUNT) {
-            throw new BaseException(ErrorCode.POINT_LESS_THAN_100);
+        if (amount < PointPolicy.MIN_AMOUNT) {
+            throw BaseException.of(ErrorCode.POINT_LESS_THAN_100);
         }
     }
-}
\ No newline at end of file
+
+    private record BulkItem(long index, PointCommand command) {
+        static final BulkItem END = new BulkItem(-1, null);
+    }
+}
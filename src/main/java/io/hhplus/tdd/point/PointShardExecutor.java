@@ -0,0 +1,143 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.stereotype.Component;
+
+/**
+ * SHARDED 모드 실행기
+ * - userId 를 해시로 나눠 shard(단일 스레드)에 고정한다. 한 유저의 변경은 항상 같은 스레드가 순서대로 처리하므로 락이 필요 없다
+ * - 요청 스레드는 대기열에 넣고 CompletableFuture 를 바로 돌려받는다
+ * - 잔액은 PointLedger 의 메모리(write-behind)에서 확정하므로 shard 스레드는 테이블 저장을 기다리지 않는다
+ *   (SHARDED 모드에서는 write-behind 가 항상 켜진다)
+ * - shard 스레드는 SHARDED 모드일 때만 만든다. CPU 코어마다 하나씩 고정해서 쓰므로 virtual thread 모드에서도 platform thread 를 쓴다
+ */
+@Component
+public class PointShardExecutor {
+
+    private static final Task STOP = new Task(null, null);
+
+    private final PointLedger pointLedger;
+    private final List<Shard> shards = new ArrayList<>();
+
+    public PointShardExecutor(PointLedger pointLedger, PointMetrics pointMetrics, PointProperties properties) {
+        this.pointLedger = pointLedger;
+        if (properties.getExecutionMode() != PointExecutionMode.SHARDED) {
+            return;
+        }
+
+        PointProperties.Shard shard = properties.getShard();
+        int count = shard.getCount() > 0 ? shard.getCount() : Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < count; i++) {
+            shards.add(new Shard(i, shard.getQueueCapacity()));
+        }
+        shards.forEach(Shard::start);
+        pointMetrics.bindShards(this);
+    }
+
+    /**
+     * 유저의 shard 대기열에 변경을 넣는다. 대기열이 가득 차면 자리가 날 때까지 기다린다
+     */
+    public CompletableFuture<UserPoint> submit(PointCommand command) {
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("SHARDED 모드가 아닙니다.");
+        }
+        Task task = new Task(command, new CompletableFuture<>());
+        try {
+            shards.get(shardOf(command.userId())).queue.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.result.completeExceptionally(e);
+        }
+        return task.result;
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public List<PointShardStats> stats() {
+        return shards.stream()
+            .map(shard -> new PointShardStats(shard.index, shard.queue.size(), shard.processed))
+            .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Shard shard : shards) {
+            try {
+                shard.queue.put(STOP);
+                shard.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    int shardOf(long userId) {
+        return Math.floorMod(Long.hashCode(userId * 0x9E3779B97F4A7C15L), shards.size());
+    }
+
+    private UserPoint apply(PointCommand command) {
+        long userId = command.userId();
+        UserPoint current = pointLedger.current(userId);
+        long newBalance = PointPolicy.apply(current.point(), command.type(), command.amount());
+        return pointLedger.commit(userId, newBalance, command.type(), command.amount());
+    }
+
+    private record Task(PointCommand command, CompletableFuture<UserPoint> result) {
+    }
+
+    private class Shard implements Runnable {
+        private final int index;
+        private final BlockingQueue<Task> queue;
+        private final Thread thread;
+        // shard 스레드만 쓰므로 volatile 로 충분
+        private volatile long processed;
+
+        Shard(int index, int queueCapacity) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(this, "point-shard-" + index);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Task task;
+                try {
+                    task = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (task == STOP) {
+                    return;
+                }
+                UserPoint result = null;
+                RuntimeException failure = null;
+                try {
+                    result = apply(task.command);
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+                // 결과를 받은 쪽에서 stats 를 보면 이미 반영되어 있도록 완료 전에 센다
+                processed++;
+                if (failure != null) {
+                    task.result.completeExceptionally(failure);
+                } else {
+                    task.result.complete(result);
+                }
+            }
+        }
+    }
+}
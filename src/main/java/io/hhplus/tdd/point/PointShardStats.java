@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+/**
+ * SHARDED 모드의 shard 별 상태
+ * - queueDepth : 처리 대기 중인 요청 수
+ * - processed : 지금까지 처리한 요청 수 (처리량은 이 값의 증가율)
+ */
+public record PointShardStats(
+        int shard,
+        int queueDepth,
+        long processed
+) {
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point;
+
+import java.util.Map;
+
+/**
+ * 유저별 포인트 집계
+ * - totalCharged / totalUsed : 누적 충전 / 사용 금액
+ * - counts : 종류별 내역 건수
+ * - windowMillis : 최근 구간의 길이 (point.summary.bucket-size x buckets)
+ * - recentCharged / recentUsed : 최근 구간의 충전 / 사용 금액 (구간 단위로 밀려난다)
+ */
+public record PointSummary(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        Map<TransactionType, Long> counts,
+        long windowMillis,
+        long recentCharged,
+        long recentUsed
+) {
+}
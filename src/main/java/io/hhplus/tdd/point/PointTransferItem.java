@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 송금 받는 유저와 금액
+ */
+public record PointTransferItem(
+        long userId,
+        long amount
+) {
+}
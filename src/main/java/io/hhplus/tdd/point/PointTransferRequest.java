@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 송금 요청. 한 유저가 여러 유저에게 나눠 보낼 수 있다
+ * - fromUserId : 보내는 유저
+ * - recipients : 받는 유저와 금액 (같은 유저가 여러 번 있으면 합쳐서 받는다)
+ */
+public record PointTransferRequest(
+        long fromUserId,
+        List<PointTransferItem> recipients
+) {
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 송금 결과
+ * - from : 보낸 유저의 송금 후 잔액
+ * - recipients : 받은 유저별 송금 후 잔액 (요청에 처음 나온 순서)
+ */
+public record PointTransferResult(
+        UserPoint from,
+        List<UserPoint> recipients
+) {
+}
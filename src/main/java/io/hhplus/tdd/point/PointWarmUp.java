@@ -0,0 +1,254 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.util.Lock;
+import io.hhplus.tdd.common.util.LockProperties;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 자주 쓰는 유저의 잔액을 미리 읽고 요청 경로를 예열한다
+ * - users-file 에 한 줄에 하나씩 적힌 userId 를 ForkJoinPool 로 나눠서 잔액을 캐시에 올린다
+ * - 메모리 테이블 위에 따로 조립한 PointService 로 충전 / 사용 / 검증 / 내역 조회 / JSON 직렬화를 반복해서 JIT 컴파일을 유도한다
+ *   (락, PointLedger, 실행 모드는 운영 설정과 같은 구현을 쓰고, 실제 유저 데이터와 테이블, 지표는 건드리지 않는다)
+ * - 전체 예열은 max-duration 안에서 끝낸다
+ * ApplicationRunner 가 끝나야 readiness 가 ACCEPTING_TRAFFIC 이 되므로, 예열이 끝날 때까지 트래픽을 받지 않는다
+ */
+@Component
+public class PointWarmUp implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWarmUp.class);
+    // 예열용 PointService 에서 번갈아 쓰는 유저 수
+    private static final int SCRATCH_USERS = 16;
+
+    private final PointService pointService;
+    private final ObjectMapper objectMapper;
+    private final LockProperties lockProperties;
+    private final PointProperties pointProperties;
+    private final PointProperties.WarmUp properties;
+    private volatile PointWarmUpStats stats = new PointWarmUpStats(false, 0, 0L);
+    // JIT 가 예열 결과를 버리지 않도록 남겨 두는 값
+    private volatile long sink;
+
+    public PointWarmUp(
+        PointService pointService,
+        ObjectMapper objectMapper,
+        LockProperties lockProperties,
+        PointMetrics pointMetrics,
+        PointProperties properties
+    ) {
+        this.pointService = pointService;
+        this.objectMapper = objectMapper;
+        this.lockProperties = lockProperties;
+        this.pointProperties = properties;
+        this.properties = properties.getWarmUp();
+        pointMetrics.bindWarmUp(this);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isEnabled()) {
+            warmUp();
+        }
+    }
+
+    /**
+     * 예열을 실행하고 결과를 돌려준다. max-duration 이 지나면 남은 미리 읽기 / 반복을 건너뛴다
+     */
+    public PointWarmUpStats warmUp() {
+        long started = System.nanoTime();
+        long deadline = started + properties.getMaxDuration().toNanos();
+        List<Long> userIds = readUserIds(Path.of(properties.getUsersFile()));
+
+        LongAdder loaded = new LongAdder();
+        ForkJoinPool pool = new ForkJoinPool(parallelism());
+        try {
+            pool.submit(() -> userIds.parallelStream().forEach(userId -> {
+                if (System.nanoTime() - deadline < 0) {
+                    preload(userId);
+                    loaded.increment();
+                }
+            })).get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("잔액 미리 읽기 중 오류가 발생했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("잔액 미리 읽기가 {} 안에 끝나지 않아 나머지를 건너뜁니다.", properties.getMaxDuration());
+        } finally {
+            pool.shutdown();
+        }
+        exercise(deadline);
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        stats = new PointWarmUpStats(true, loaded.intValue(), elapsedMillis);
+        log.info("포인트 warm-up 완료 - users: {}, elapsed: {} ms", loaded.intValue(), elapsedMillis);
+        return stats;
+    }
+
+    public PointWarmUpStats stats() {
+        return stats;
+    }
+
+    private void preload(long userId) {
+        pointService.getPoint(userId);
+    }
+
+    /**
+     * 메모리 테이블 위에 따로 조립한 PointService 로 충전 / 사용 / 검증 / 내역 조회 / JSON 직렬화를 반복한다.
+     * 락 / PointLedger / 실행 모드는 운영과 같은 구현이지만 테이블, 락, 지표는 모두 새로 만든 것이라
+     * 테이블 지연과 상관없이 빨리 끝나고, 실제 데이터와 지표도 바뀌지 않는다 (저널은 파일에 쓰므로 끈다)
+     */
+    private void exercise(long deadline) {
+        PointProperties scratchProperties = scratchProperties();
+        Lock scratchLock = new Lock(lockProperties);
+        PointMetrics scratchMetrics = new PointMetrics(new SimpleMeterRegistry(), scratchLock);
+        scratchMetrics.observeLock();
+        PointLedger ledger = new PointLedger(
+            new ScratchUserPointTable(), new ScratchPointHistoryTable(), new PointHistoryStore(), scratchMetrics, scratchProperties);
+        PointShardExecutor shardExecutor = new PointShardExecutor(ledger, scratchMetrics, scratchProperties);
+        PointService scratch = new PointService(
+            ledger,
+            new PointGroupCommitter(ledger, scratchLock, scratchProperties),
+            new PointCasEngine(ledger),
+            shardExecutor,
+            scratchLock,
+            scratchMetrics,
+            scratchProperties
+        );
+
+        long sum = 0L;
+        try {
+            for (int i = 0; i < properties.getIterations() && System.nanoTime() - deadline < 0; i++) {
+                long userId = 1L + i % SCRATCH_USERS;
+                // 50 번에 한 번은 최소 금액 미만으로 검증 실패 경로도 지나간다
+                long amount = i % 50 == 49 ? 0L : PointPolicy.MIN_AMOUNT * (1 + i % 10);
+                try {
+                    UserPoint userPoint = (i / SCRATCH_USERS) % 2 == 0
+                        ? scratch.charge(userId, amount)
+                        : scratch.use(userId, amount);
+                    sum += objectMapper.writeValueAsBytes(userPoint).length;
+                } catch (BaseException e) {
+                    sum += e.getErrorCode().ordinal();
+                }
+                if (i % 100 == 99) {
+                    sum += objectMapper.writeValueAsBytes(scratch.getPoint(userId)).length;
+                    sum += objectMapper.writeValueAsBytes(scratch.getHistories(userId, null, 20, null)).length;
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            shardExecutor.shutdown();
+            ledger.shutdown();
+        }
+        sink = sum;
+    }
+
+    /**
+     * 실행 모드와 경로를 바꾸는 설정만 운영 설정에서 옮긴 예열용 설정
+     */
+    private PointProperties scratchProperties() {
+        PointProperties scratch = new PointProperties();
+        scratch.setExecutionMode(pointProperties.getExecutionMode());
+        scratch.setVirtualThreads(pointProperties.isVirtualThreads());
+        scratch.getWriteBehind().setEnabled(pointProperties.getWriteBehind().isEnabled());
+        scratch.getHistoryPipeline().setEnabled(pointProperties.getHistoryPipeline().isEnabled());
+        scratch.getCache().setEnabled(pointProperties.getCache().isEnabled());
+        scratch.getGroupCommit().setMaxBatchSize(pointProperties.getGroupCommit().getMaxBatchSize());
+        scratch.getShard().setCount(1);
+        scratch.getJournal().setEnabled(false);
+        return scratch;
+    }
+
+    private List<Long> readUserIds(Path path) {
+        if (!Files.exists(path)) {
+            log.warn("warm-up 유저 파일이 없습니다. - {}", path);
+            return List.of();
+        }
+        try (Stream<String> lines = Files.lines(path)) {
+            return lines
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .map(PointWarmUp::parseUserId)
+                .filter(userId -> userId > 0)
+                .distinct()
+                .limit(properties.getMaxUsers())
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long parseUserId(String line) {
+        try {
+            return Long.parseLong(line);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private int parallelism() {
+        return properties.getParallelism() > 0
+            ? properties.getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * throttle 없이 메모리에만 두는 예열용 잔액 테이블
+     */
+    private static class ScratchUserPointTable extends UserPointTable {
+        private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+
+    /**
+     * throttle 없이 내역을 쌓지 않는 예열용 내역 테이블 (조회는 PointHistoryStore 가 담당한다)
+     */
+    private static class ScratchPointHistoryTable extends PointHistoryTable {
+        private final AtomicLong cursor = new AtomicLong(1L);
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            return new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 시작 시 예열 결과
+ * - finished : 예열을 마쳤는지 (꺼져 있으면 false)
+ * - users : 잔액을 미리 읽은 유저 수
+ * - durationMillis : 예열에 걸린 시간
+ */
+public record PointWarmUpStats(
+        boolean finished,
+        int users,
+        long durationMillis
+) {
+}
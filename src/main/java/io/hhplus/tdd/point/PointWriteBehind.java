@@ -0,0 +1,140 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 메모리에서 확정된 포인트 변경을 테이블에 비동기로 저장한다.
+ * - userId 로 워커를 고정해서 같은 유저의 저장 순서를 보장
+ * - 워커별 대기열은 크기가 정해져 있어서, 가득 차면 submit 이 대기한다
+ * - shutdown 시 남은 작업을 모두 저장한 뒤 종료
+ */
+public class PointWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWriteBehind.class);
+    private static final Runnable STOP = () -> {};
+
+    private final PointProperties.WriteBehind properties;
+    private final List<BlockingQueue<Runnable>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    public PointWriteBehind(PointProperties.WriteBehind properties, ThreadFactory threadFactory) {
+        this.properties = properties;
+
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+            Thread worker = threadFactory.newThread(() -> drain(queue));
+            queues.add(queue);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * 해당 유저의 대기 중인 저장이 끝날 때까지 기다린다
+     */
+    public void flush(long userId) {
+        awaitBarrier(queueOf(userId));
+    }
+
+    /**
+     * 모든 대기열이 비워질 때까지 기다린다
+     */
+    public void flushAll() {
+        queues.forEach(this::awaitBarrier);
+    }
+
+    /**
+     * 새 작업을 막고, 남은 작업을 저장한 뒤 워커를 종료한다
+     */
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        queues.forEach(queue -> putUninterruptibly(queue, STOP));
+
+        long deadline = System.nanoTime() + properties.getShutdownTimeout().toNanos();
+        for (Thread worker : workers) {
+            try {
+                worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        int remaining = queues.stream().mapToInt(BlockingQueue::size).sum();
+        if (remaining > 0) {
+            log.warn("write-behind 종료 시간 초과 - 저장되지 않은 작업: {}", remaining);
+        }
+    }
+
+    /**
+     * 저장 작업을 유저 대기열에 넣는다
+     */
+    public void submit(long userId, Runnable task) {
+        if (!running) {
+            throw new IllegalStateException("write-behind 가 이미 종료되었습니다.");
+        }
+        putUninterruptibly(queueOf(userId), task);
+    }
+
+    private BlockingQueue<Runnable> queueOf(long userId) {
+        return queues.get(Math.floorMod(userId, queues.size()));
+    }
+
+    private void awaitBarrier(BlockingQueue<Runnable> queue) {
+        if (!running) {
+            return;
+        }
+        CountDownLatch barrier = new CountDownLatch(1);
+        putUninterruptibly(queue, barrier::countDown);
+        try {
+            barrier.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain(BlockingQueue<Runnable> queue) {
+        while (true) {
+            Runnable task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (task == STOP) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("write-behind 저장 실패", e);
+            }
+        }
+    }
+
+    private void putUninterruptibly(BlockingQueue<Runnable> queue, Runnable task) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(task);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
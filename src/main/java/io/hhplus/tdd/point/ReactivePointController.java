@@ -0,0 +1,69 @@
+package io.hhplus.tdd.point;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * /point 와 같은 계약의 non-blocking 버전 (Mono / Flux 응답)
+ * 서블릿(MVC) 앱이므로 WebFlux 대신 MVC 의 reactive 반환 타입 지원(비동기 요청 처리)으로 응답한다.
+ * 요청 스레드는 Mono / Flux 를 돌려준 뒤 바로 반납된다.
+ * - histories : Accept 가 application/x-ndjson 이면 구독자 요청만큼 한 건씩 흘려보내고, 아니면 JSON 배열
+ */
+@RestController
+@RequestMapping("/reactive/point")
+@RequiredArgsConstructor
+public class ReactivePointController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactivePointController.class);
+    private final ReactivePointService reactivePointService;
+    private final PointIdempotencyStore pointIdempotencyStore;
+
+    @GetMapping("{id}")
+    public Mono<UserPoint> point(
+        @PathVariable long id
+    ) {
+        log.debug("GET /reactive/point/{}", id);
+        return reactivePointService.getPoint(id);
+    }
+
+    @GetMapping("{id}/histories")
+    public Flux<PointHistory> histories(
+        @PathVariable long id,
+        @RequestParam(required = false) TransactionType type
+    ) {
+        log.debug("GET /reactive/point/{}/histories - type: {}", id, type);
+        return reactivePointService.getHistories(id, type);
+    }
+
+    @PatchMapping("{id}/charge")
+    public Mono<UserPoint> charge(
+        @PathVariable long id,
+        @RequestBody long amount,
+        @RequestHeader(name = PointIdempotencyStore.HEADER, required = false) String idempotencyKey
+    ) {
+        log.debug("PATCH /reactive/point/{}/charge - amount: {}, key: {}", id, amount, idempotencyKey);
+        return Mono.fromFuture(pointIdempotencyStore.execute(
+            idempotencyKey,
+            new PointCommand(id, TransactionType.CHARGE, amount),
+            () -> reactivePointService.charge(id, amount).toFuture()
+        ), true);
+    }
+
+    @PatchMapping("{id}/use")
+    public Mono<UserPoint> use(
+        @PathVariable long id,
+        @RequestBody long amount,
+        @RequestHeader(name = PointIdempotencyStore.HEADER, required = false) String idempotencyKey
+    ) {
+        log.debug("PATCH /reactive/point/{}/use - amount: {}, key: {}", id, amount, idempotencyKey);
+        return Mono.fromFuture(pointIdempotencyStore.execute(
+            idempotencyKey,
+            new PointCommand(id, TransactionType.USE, amount),
+            () -> reactivePointService.use(id, amount).toFuture()
+        ), true);
+    }
+}
@@ -0,0 +1,98 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * PointService 의 non-blocking 버전 (Mono / Flux)
+ * - 같은 유저의 충전 / 사용은 앞선 요청이 끝난 뒤에 이어서 실행한다. 차례를 기다리는 동안에는 스레드를 잡지 않는다
+ * - 테이블을 호출하는 blocking 처리는 크기가 정해진 boundedElastic scheduler 에서 실행한다
+ * - 처리는 PointService 에 맡기므로 실행 모드 / 잔액 규칙 / 지표 / 유저 락은 MVC 경로와 같다
+ *   (같은 유저의 MVC 요청과 섞여도 유저 락으로 직렬화되고, 유저마다 락을 기다리는 elastic 스레드는 최대 1개)
+ */
+@Component
+public class ReactivePointService {
+
+    private final PointService pointService;
+    private final Scheduler scheduler;
+    // 유저별 마지막 변경 (끝나면 제거한다)
+    private final ConcurrentMap<Long, CompletableFuture<?>> tails = new ConcurrentHashMap<>();
+
+    public ReactivePointService(PointService pointService, PointProperties properties) {
+        this.pointService = pointService;
+        PointProperties.Reactive reactive = properties.getReactive();
+        this.scheduler = Schedulers.newBoundedElastic(
+            reactive.getThreadCap() > 0 ? reactive.getThreadCap() : Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+            reactive.getQueuedTaskCap(),
+            "point-reactive"
+        );
+    }
+
+    public Mono<UserPoint> getPoint(long userId) {
+        return Mono.fromCallable(() -> pointService.getPoint(userId)).subscribeOn(scheduler);
+    }
+
+    /**
+     * 포인트 내역. 구독자가 요청한 만큼만 내보낸다 (backpressure)
+     */
+    public Flux<PointHistory> getHistories(long userId, TransactionType type) {
+        return Mono.fromCallable(() -> pointService.getHistories(userId, type))
+            .subscribeOn(scheduler)
+            .flatMapIterable(histories -> histories);
+    }
+
+    public Mono<UserPoint> charge(long userId, long amount) {
+        return serialize(userId, () -> pointService.chargeAsync(userId, amount));
+    }
+
+    public Mono<UserPoint> use(long userId, long amount) {
+        return serialize(userId, () -> pointService.useAsync(userId, amount));
+    }
+
+    /**
+     * 유저의 앞선 변경이 끝나면 (성공 / 실패 상관없이) task 를 scheduler 에서 실행한다
+     * 구독을 취소해도 이미 줄을 선 변경은 끝까지 실행해서 뒤 순서가 앞지르지 않게 한다
+     */
+    private Mono<UserPoint> serialize(long userId, Supplier<CompletableFuture<UserPoint>> task) {
+        return Mono.defer(() -> {
+            CompletableFuture<UserPoint> result = new CompletableFuture<>();
+            CompletableFuture<UserPoint> done = new CompletableFuture<>();
+            CompletableFuture<?> previous = tails.put(userId, done);
+
+            // done 은 실패하지 않으므로 앞선 변경이 실패해도 차례가 넘어온다
+            Mono<?> turn = previous == null ? Mono.empty() : Mono.fromFuture(previous);
+            turn.then(Mono.defer(() -> Mono.fromFuture(task.get(), true)).subscribeOn(scheduler))
+                .toFuture()
+                .whenComplete((userPoint, error) -> {
+                    tails.remove(userId, done);
+                    done.complete(null);
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(userPoint);
+                    }
+                });
+            return Mono.fromFuture(result, true);
+        });
+    }
+
+    /**
+     * 차례를 기다리는 변경이 있는 유저 수 (테스트용)
+     */
+    int pendingUsers() {
+        return tails.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+}
@@ -5,7 +5,27 @@ package io.hhplus.tdd.point;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - TRANSFER_OUT / TRANSFER_IN : 송금으로 보낸 / 받은 포인트
+ * - EXPIRE : 유효기간이 지나 소멸한 포인트 (point.expiry)
+ * 저널은 순서(ordinal)로 저장하므로 새 종류는 뒤에 추가한다
  */
 public enum TransactionType {
-    CHARGE, USE
-}
\ No newline at end of file
+    CHARGE(true),
+    USE(false),
+    TRANSFER_OUT(false),
+    TRANSFER_IN(true),
+    EXPIRE(false);
+
+    private final boolean credit;
+
+    TransactionType(boolean credit) {
+        this.credit = credit;
+    }
+
+    /**
+     * 잔액을 늘리는 종류인지
+     */
+    public boolean isCredit() {
+        return credit;
+    }
+}
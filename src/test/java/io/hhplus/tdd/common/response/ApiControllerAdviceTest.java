@@ -0,0 +1,46 @@
+package io.hhplus.tdd.common.response;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiControllerAdviceTest {
+    ApiControllerAdvice advice = new ApiControllerAdvice();
+
+    @Test
+    @DisplayName("거절 예외는 ErrorCode 마다 공유하고 stack trace 를 채우지 않는다")
+    void shared_stackless_rejection() {
+        BaseException rejection = BaseException.of(ErrorCode.POINT_BALANCE_NEGATIVE);
+
+        assertThat(BaseException.of(ErrorCode.POINT_BALANCE_NEGATIVE)).isSameAs(rejection);
+        assertThat(rejection.getStackTrace()).isEmpty();
+        assertThat(rejection.getMessage()).isEqualTo(ErrorCode.POINT_BALANCE_NEGATIVE.getErrMsg());
+    }
+
+    @Test
+    @DisplayName("기본 메시지의 거절은 ErrorCode 의 상태 코드로, 미리 만든 응답을 돌려준다")
+    void cached_response_with_real_status() {
+        ResponseEntity<ErrorResponse> first = advice.handleBaseException(BaseException.of(ErrorCode.POINT_LESS_THAN_100));
+        ResponseEntity<ErrorResponse> second = advice.handleBaseException(new BaseException(ErrorCode.POINT_LESS_THAN_100));
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(first.getBody()).isEqualTo(new ErrorResponse("POINT_LESS_THAN_100", ErrorCode.POINT_LESS_THAN_100.getErrMsg()));
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("메시지를 바꾼 예외는 그 메시지로 응답하고, 429 / 503 에는 Retry-After 를 붙인다")
+    void custom_message_and_retry_after() {
+        ResponseEntity<ErrorResponse> custom = advice.handleBaseException(new BaseException("잔액 부족", ErrorCode.POINT_BALANCE_NEGATIVE));
+        ResponseEntity<ErrorResponse> queueFull = advice.handleBaseException(BaseException.of(ErrorCode.LOCK_QUEUE_FULL));
+
+        assertThat(custom.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(custom.getBody().message()).isEqualTo("잔액 부족");
+        assertThat(queueFull.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(queueFull.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+}
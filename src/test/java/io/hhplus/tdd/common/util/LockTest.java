@@ -0,0 +1,216 @@
+package io.hhplus.tdd.common.util;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.response.ErrorCode;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Lock 모드별 테스트
+ */
+class LockTest {
+    int userCount = 10;
+    int taskCount = 1_000;
+
+    @Test
+    @DisplayName("REF_COUNTED 모드는 유저 단위로 직렬화하고, 사용이 끝난 락은 제거한다")
+    void ref_counted_evicts() throws Exception {
+        LockProperties properties = new LockProperties();
+        properties.setMode(LockProperties.Mode.REF_COUNTED);
+        Lock lock = new Lock(properties);
+
+        long[] counters = runConcurrently(lock);
+
+        assertThat(counters).containsOnly(100L);
+        assertThat(lock.stats().liveLocks()).isZero();
+    }
+
+    @Test
+    @DisplayName("STRIPED 모드는 유저 수와 상관없이 락 개수가 고정이다")
+    void striped_is_bounded() throws Exception {
+        LockProperties properties = new LockProperties();
+        properties.setMode(LockProperties.Mode.STRIPED);
+        properties.setStripes(4);
+        Lock lock = new Lock(properties);
+
+        long[] counters = runConcurrently(lock);
+
+        assertThat(counters).containsOnly(100L);
+        assertThat(lock.stats().liveLocks()).isEqualTo(4L);
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("같은 유저 락을 기다리는 virtual thread 가 carrier 스레드보다 많아도 다른 작업은 계속 진행된다")
+    void waiting_virtual_threads_do_not_pin_carriers() throws Exception {
+        int waiters = Runtime.getRuntime().availableProcessors() * 4;
+        for (LockProperties.Mode mode : LockProperties.Mode.values()) {
+            LockProperties properties = new LockProperties();
+            properties.setMode(mode);
+            Lock lock = new Lock(properties);
+            CountDownLatch holding = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch progressed = new CountDownLatch(1);
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                executor.submit(() -> lock.run(1L, () -> {
+                    holding.countDown();
+                    awaitQuietly(release);
+                }));
+                holding.await();
+                for (int i = 0; i < waiters; i++) {
+                    executor.submit(() -> lock.run(1L, () -> {}));
+                }
+                executor.submit(progressed::countDown);
+
+                assertThat(progressed.await(10, TimeUnit.SECONDS)).isTrue();
+                release.countDown();
+            }
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("acquire-timeout 안에 락을 잡지 못하면 LOCK_TIMEOUT 으로 거절하고 횟수를 센다")
+    void acquire_timeout_rejects() throws Exception {
+        for (LockProperties.Mode mode : LockProperties.Mode.values()) {
+            LockProperties properties = new LockProperties();
+            properties.setMode(mode);
+            properties.setAcquireTimeout(Duration.ofMillis(50));
+            Lock lock = new Lock(properties);
+
+            holdWhile(lock, () -> assertThatThrownBy(() -> lock.run(1L, () -> {}))
+                .isInstanceOf(BaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.LOCK_TIMEOUT));
+
+            assertThat(lock.stats().timeoutRejections()).isEqualTo(1L);
+            lock.run(1L, () -> {});
+            if (mode == LockProperties.Mode.REF_COUNTED) {
+                // 포기한 대기자의 참조 수도 되돌려서 락이 남지 않는다
+                assertThat(lock.stats().liveLocks()).isZero();
+            }
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("대기열이 max-queue-length 에 차면 기다리지 않고 LOCK_QUEUE_FULL 로 거절한다")
+    void full_queue_rejects() throws Exception {
+        LockProperties properties = new LockProperties();
+        properties.setMaxQueueLength(2);
+        Lock lock = new Lock(properties);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            holdWhile(lock, () -> {
+                for (int i = 0; i < 2; i++) {
+                    executor.submit(() -> lock.run(1L, () -> {}));
+                }
+                while (lock.queueLength(1L) < 2) {
+                    Thread.onSpinWait();
+                }
+
+                assertThatThrownBy(() -> lock.run(1L, () -> {}))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.LOCK_QUEUE_FULL);
+                // 다른 유저는 영향을 받지 않는다
+                lock.run(2L, () -> {});
+            });
+        }
+        assertThat(lock.stats().queueFullRejections()).isEqualTo(1L);
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("STRIPED 모드의 대기열 한도는 같은 stripe 의 다른 유저에게 적용되지 않는다")
+    void striped_queue_limit_is_per_user() throws Exception {
+        LockProperties properties = new LockProperties();
+        properties.setMode(LockProperties.Mode.STRIPED);
+        properties.setStripes(1);
+        properties.setMaxQueueLength(2);
+        Lock lock = new Lock(properties);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?>[] other = new Future<?>[1];
+            holdWhile(lock, () -> {
+                for (int i = 0; i < 2; i++) {
+                    executor.submit(() -> lock.run(1L, () -> {}));
+                }
+                while (lock.queueLength(1L) < 2) {
+                    Thread.onSpinWait();
+                }
+
+                assertThatThrownBy(() -> lock.run(1L, () -> {}))
+                    .isInstanceOf(BaseException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.LOCK_QUEUE_FULL);
+                // 같은 stripe 를 쓰는 유저 2 는 거절되지 않고 기다린다
+                assertThat(lock.queueLength(2L)).isZero();
+                other[0] = executor.submit(() -> lock.run(2L, () -> {}));
+            });
+            other[0].get();
+        }
+        assertThat(lock.stats().queueFullRejections()).isEqualTo(1L);
+    }
+
+    // 다른 스레드가 유저 1 의 락을 잡고 있는 동안 action 을 실행한다
+    private static void holdWhile(Lock lock, Runnable action) throws Exception {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> lock.run(1L, () -> {
+            holding.countDown();
+            awaitQuietly(release);
+        }));
+        holder.start();
+        holding.await();
+        try {
+            action.run();
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 유저마다 자기 카운터를 락 안에서 증가 (락이 없으면 증가가 유실된다)
+    private long[] runConcurrently(Lock lock) throws InterruptedException {
+        long[] counters = new long[userCount];
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(taskCount);
+
+        for (int i=0; i<taskCount; i++) {
+            int userId = i % userCount;
+            executor.submit(() -> {
+                try {
+                    lock.run(userId, () -> {
+                        long value = counters[userId];
+                        Thread.yield();
+                        counters[userId] = value + 1;
+                    });
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+        return counters;
+    }
+}
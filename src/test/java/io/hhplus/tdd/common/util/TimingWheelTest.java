@@ -0,0 +1,82 @@
+package io.hhplus.tdd.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TimingWheel 만료 시점 / 제거 테스트
+ */
+class TimingWheelTest {
+    static final long TICK = 1_000L;
+    static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("여러 단계에 걸친 항목도 마감 시각 전에는 만료되지 않고, 마감 시각이 지난 첫 advance 에서 만료된다")
+    void expires_on_first_tick_after_deadline() {
+        // 칸 8개 x 1초 -> 10일 범위면 7단계까지 쓴다
+        TimingWheel<Timer> wheel = new TimingWheel<>(TICK, 8, START);
+        Random random = new Random(42);
+        List<Timer> timers = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Timer timer = new Timer(START + 1 + random.nextLong(864_000_000L));
+            timers.add(timer);
+            assertThat(wheel.add(timer)).isTrue();
+        }
+
+        List<Timer> expired = new ArrayList<>();
+        long previous = START;
+        long now = START;
+        while (expired.size() < timers.size()) {
+            now += 1 + random.nextLong(3_600_000L);
+            long floor = now - now % TICK;
+            long before = previous - previous % TICK;
+            int from = expired.size();
+            wheel.advance(now, expired::add);
+            for (Timer timer : expired.subList(from, expired.size())) {
+                assertThat(timer.deadline()).isLessThanOrEqualTo(floor).isGreaterThan(before);
+            }
+            previous = now;
+        }
+
+        assertThat(expired).containsExactlyInAnyOrderElementsOf(timers);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("뺀 항목은 만료되지 않는다")
+    void removed_entry_never_expires() {
+        TimingWheel<Timer> wheel = new TimingWheel<>(TICK, 8, START);
+        Timer kept = new Timer(START + 5 * TICK);
+        Timer removed = new Timer(START + 100 * TICK);
+        wheel.add(kept);
+        wheel.add(removed);
+
+        assertThat(wheel.remove(removed)).isTrue();
+        assertThat(wheel.remove(removed)).isFalse();
+        List<Timer> expired = new ArrayList<>();
+        wheel.advance(START + 1_000 * TICK, expired::add);
+
+        assertThat(expired).containsExactly(kept);
+        assertThat(removed.scheduled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("마감 시각이 이미 지난 항목은 걸지 않는다")
+    void rejects_past_deadline() {
+        TimingWheel<Timer> wheel = new TimingWheel<>(TICK, 8, START);
+
+        assertThat(wheel.add(new Timer(START))).isFalse();
+        assertThat(wheel.add(new Timer(START + 1))).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    static class Timer extends TimingWheel.Entry {
+        Timer(long deadline) {
+            super(deadline);
+        }
+    }
+}
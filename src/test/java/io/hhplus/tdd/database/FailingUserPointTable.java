@@ -0,0 +1,23 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * failing 을 켜면 저장에 실패하는 FastUserPointTable (저장 실패 시 부수 상태가 남지 않는지 확인할 때 사용)
+ */
+public class FailingUserPointTable extends FastUserPointTable {
+
+    private volatile boolean failing;
+
+    public void failing(boolean failing) {
+        this.failing = failing;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        if (failing) {
+            throw new IllegalStateException("저장 실패");
+        }
+        return super.insertOrUpdate(id, amount);
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * throttle 없이 동작하는 PointHistoryTable 테스트 더블
+ * 내역은 id 만 발급하고 보관하지 않는다. (조회는 PointHistoryStore 가 담당)
+ */
+public class FastPointHistoryTable extends PointHistoryTable {
+
+    private final AtomicLong cursor = new AtomicLong(1);
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return List.of();
+    }
+}
@@ -0,0 +1,117 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointJournalTest {
+
+    @TempDir
+    Path directory;
+
+    Duration syncInterval = Duration.ofSeconds(10);
+
+    @Test
+    @DisplayName("다시 열면 기록된 내역으로 유저별 잔액을 복구한다")
+    void reopen_recovers_balances() {
+        try (PointJournal journal = new PointJournal(directory, syncInterval, 0)) {
+            journal.append(history(1, 1L, 1_000L, TransactionType.CHARGE));
+            journal.append(history(2, 2L, 500L, TransactionType.CHARGE));
+            journal.append(history(3, 1L, 300L, TransactionType.USE));
+        }
+
+        try (PointJournal journal = new PointJournal(directory, syncInterval, 0)) {
+            assertThat(journal.size()).isEqualTo(3L);
+            assertThat(journal.balances()).isEqualTo(Map.of(1L, 700L, 2L, 500L));
+        }
+    }
+
+    @Test
+    @DisplayName("매핑 영역을 넘어가도 이어서 기록하고 복구한다")
+    void append_across_regions() {
+        try (PointJournal journal = new PointJournal(directory, syncInterval, 0, 4)) {
+            for (int i = 1; i <= 10; i++) {
+                journal.append(history(i, 1L, 100L, TransactionType.CHARGE));
+            }
+        }
+
+        try (PointJournal journal = new PointJournal(directory, syncInterval, 0, 4)) {
+            assertThat(journal.size()).isEqualTo(10L);
+            assertThat(journal.balances()).isEqualTo(Map.of(1L, 1_000L));
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후의 내역만 다시 읽어도 같은 잔액이 된다")
+    void recover_from_snapshot() {
+        try (PointJournal journal = new PointJournal(directory, syncInterval, 2)) {
+            journal.append(history(1, 1L, 1_000L, TransactionType.CHARGE));
+            journal.append(history(2, 1L, 200L, TransactionType.USE));
+            journal.sync();
+            journal.append(history(3, 1L, 100L, TransactionType.USE));
+        }
+        assertThat(Files.exists(directory.resolve("point.snapshot"))).isTrue();
+
+        try (PointJournal journal = new PointJournal(directory, syncInterval, 2)) {
+            assertThat(journal.size()).isEqualTo(3L);
+            assertThat(journal.balances()).isEqualTo(Map.of(1L, 700L));
+        }
+    }
+
+    @Test
+    @DisplayName("sync 전에도 기록한 내역이 잔액에 반영되고, 영역을 넘긴 뒤의 스냅샷도 이어서 복구한다")
+    void snapshot_across_regions() {
+        try (PointJournal journal = new PointJournal(directory, syncInterval, 3, 4)) {
+            for (int i = 1; i <= 6; i++) {
+                journal.append(history(i, 1L, 100L, TransactionType.CHARGE));
+            }
+            assertThat(journal.balances()).isEqualTo(Map.of(1L, 600L));
+            journal.sync();
+            journal.append(history(7, 2L, 50L, TransactionType.CHARGE));
+        }
+
+        try (PointJournal journal = new PointJournal(directory, syncInterval, 3, 4)) {
+            assertThat(journal.size()).isEqualTo(7L);
+            assertThat(journal.balances()).isEqualTo(Map.of(1L, 600L, 2L, 50L));
+        }
+    }
+
+    @Test
+    @DisplayName("깨진 레코드부터는 복구하지 않고, 그 자리부터 다시 기록한다")
+    void torn_record_is_discarded() throws IOException {
+        try (PointJournal journal = new PointJournal(directory, syncInterval, 0)) {
+            journal.append(history(1, 1L, 1_000L, TransactionType.CHARGE));
+            journal.append(history(2, 1L, 500L, TransactionType.CHARGE));
+        }
+        // 두 번째 레코드의 금액을 손상시킨다
+        try (FileChannel channel = FileChannel.open(directory.resolve("point.journal"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1}), PointJournal.RECORD_BYTES + 16);
+        }
+
+        try (PointJournal journal = new PointJournal(directory, syncInterval, 0)) {
+            assertThat(journal.size()).isEqualTo(1L);
+            assertThat(journal.balances()).isEqualTo(Map.of(1L, 1_000L));
+            journal.append(history(3, 1L, 100L, TransactionType.USE));
+        }
+
+        try (PointJournal journal = new PointJournal(directory, syncInterval, 0)) {
+            assertThat(journal.size()).isEqualTo(2L);
+            assertThat(journal.balances()).isEqualTo(Map.of(1L, 900L));
+        }
+    }
+
+    private PointHistory history(long id, long userId, long amount, TransactionType type) {
+        return new PointHistory(id, userId, amount, type, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,52 @@
+package io.hhplus.tdd.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * 부하 테스트가 호출하는 PointController 엔드포인트
+ */
+enum LoadTestEndpoint {
+    CHARGE("charge"),
+    USE("use"),
+    POINT("point"),
+    HISTORIES("histories");
+
+    // 응답이 이보다 늦으면 HttpTimeoutException 으로 집계한다
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String key;
+
+    LoadTestEndpoint(String key) {
+        this.key = key;
+    }
+
+    /**
+     * loadtest.mix 에서 쓰는 이름
+     */
+    String key() {
+        return key;
+    }
+
+    static LoadTestEndpoint of(String key) {
+        for (LoadTestEndpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 엔드포인트입니다: " + key);
+    }
+
+    HttpRequest request(URI baseUri, long userId, long amount) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(REQUEST_TIMEOUT);
+        return switch (this) {
+            case CHARGE, USE -> builder.uri(baseUri.resolve("/point/" + userId + "/" + key))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(Long.toString(amount)))
+                .build();
+            case POINT -> builder.uri(baseUri.resolve("/point/" + userId)).GET().build();
+            case HISTORIES -> builder.uri(baseUri.resolve("/point/" + userId + "/histories?limit=100")).GET().build();
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package io.hhplus.tdd.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트 / 결과(OK 또는 ErrorCode)별 지연 시간 히스토그램
+ * 지연 시간은 요청을 보내기로 한 예정 시각부터 재므로, 서버가 밀려서 늦게 보낸 시간도 포함된다. (coordinated omission 보정)
+ * 리포트는 같은 순서의 json / 표로 남겨서 이전 결과(baseline)와 비교할 수 있다.
+ */
+class LoadTestReport {
+    // 1us ~ 1분, 유효 숫자 3자리
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final ConcurrentMap<Key, Histogram> histograms = new ConcurrentHashMap<>();
+
+    void record(LoadTestEndpoint endpoint, String outcome, long latencyNanos) {
+        long micros = Math.min(Math.max(1L, TimeUnit.NANOSECONDS.toMicros(latencyNanos)), HIGHEST_MICROS);
+        histograms.computeIfAbsent(new Key(endpoint, outcome), key -> new ConcurrentHistogram(HIGHEST_MICROS, SIGNIFICANT_DIGITS))
+            .recordValue(micros);
+    }
+
+    long totalCount() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    /**
+     * json / 표 리포트를 label 이름으로 남기고 표를 돌려준다
+     */
+    String write(LoadTestSettings settings, long elapsedNanos, ObjectMapper objectMapper) throws IOException {
+        List<Map<String, Object>> rows = rows();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", settings.label());
+        report.put("targetRps", settings.rps());
+        report.put("achievedRps", totalCount() / (elapsedNanos / 1e9));
+        report.put("durationSeconds", settings.durationSeconds());
+        report.put("users", settings.users());
+        report.put("zipfExponent", settings.zipfExponent());
+        report.put("mix", settings.mix());
+        report.put("rows", rows);
+
+        Map<String, Double> baseline = readBaseline(settings.baseline(), objectMapper);
+        String table = table(report, rows, baseline);
+
+        Files.createDirectories(settings.reportDirectory());
+        Files.write(settings.reportDirectory().resolve(settings.label() + ".json"),
+            objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(report));
+        Files.writeString(settings.reportDirectory().resolve(settings.label() + ".txt"), table);
+        return table;
+    }
+
+    private List<Map<String, Object>> rows() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        histograms.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey(
+                Comparator.comparing(Key::endpoint).thenComparing(Key::outcome)))
+            .forEach(entry -> {
+                Histogram histogram = entry.getValue();
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("endpoint", entry.getKey().endpoint().key());
+                row.put("outcome", entry.getKey().outcome());
+                row.put("count", histogram.getTotalCount());
+                row.put("p50Millis", millis(histogram.getValueAtPercentile(50)));
+                row.put("p99Millis", millis(histogram.getValueAtPercentile(99)));
+                row.put("p999Millis", millis(histogram.getValueAtPercentile(99.9)));
+                row.put("maxMillis", millis(histogram.getMaxValue()));
+                rows.add(row);
+            });
+        return rows;
+    }
+
+    private static String table(Map<String, Object> report, List<Map<String, Object>> rows, Map<String, Double> baseline) {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%s - target %s rps, achieved %.1f rps%n",
+            report.get("label"), report.get("targetRps"), (double) report.get("achievedRps")));
+        table.append(String.format("%-10s %-26s %9s %10s %10s %10s %10s %12s%n",
+            "endpoint", "outcome", "count", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "p99 vs base"));
+        for (Map<String, Object> row : rows) {
+            Double base = baseline.get(row.get("endpoint") + " " + row.get("outcome"));
+            double p99 = (double) row.get("p99Millis");
+            table.append(String.format("%-10s %-26s %9d %10.2f %10.2f %10.2f %10.2f %12s%n",
+                row.get("endpoint"), row.get("outcome"), (long) row.get("count"),
+                (double) row.get("p50Millis"), p99, (double) row.get("p999Millis"), (double) row.get("maxMillis"),
+                base == null ? "-" : String.format("%+.2f", p99 - base)));
+        }
+        return table.toString();
+    }
+
+    /**
+     * 이전 리포트의 (endpoint outcome) → p99
+     */
+    private static Map<String, Double> readBaseline(Path path, ObjectMapper objectMapper) throws IOException {
+        Map<String, Double> baseline = new HashMap<>();
+        if (path == null || !Files.exists(path)) {
+            return baseline;
+        }
+        for (JsonNode row : objectMapper.readTree(Files.readAllBytes(path)).path("rows")) {
+            baseline.put(row.path("endpoint").asText() + " " + row.path("outcome").asText(),
+                row.path("p99Millis").asDouble());
+        }
+        return baseline;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private record Key(LoadTestEndpoint endpoint, String outcome) {
+    }
+}
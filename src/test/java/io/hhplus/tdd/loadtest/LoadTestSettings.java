@@ -0,0 +1,58 @@
+package io.hhplus.tdd.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (./gradlew loadTest -Ploadtest.rps=1000 ... 로 바꾼다)
+ * - rps : 초당 목표 요청 수. 응답을 기다리지 않고 예정 시각마다 보낸다 (open-loop)
+ * - warmUpSeconds / durationSeconds : 기록하지 않는 예열 구간 / 측정 구간
+ * - users / zipfExponent : 유저 수와 인기도 분포 (지수가 클수록 소수 유저에 몰린다)
+ * - mix : 엔드포인트별 비율 (charge:30,use:30,point:30,histories:10)
+ * - label : 리포트 파일 이름, reportDirectory : 리포트 위치, baseline : 비교할 이전 리포트(json). 없으면 null
+ */
+record LoadTestSettings(
+        int rps,
+        int warmUpSeconds,
+        int durationSeconds,
+        int users,
+        double zipfExponent,
+        Map<LoadTestEndpoint, Integer> mix,
+        String label,
+        Path reportDirectory,
+        Path baseline
+) {
+    static LoadTestSettings fromSystemProperties() {
+        String baseline = System.getProperty("loadtest.baseline");
+        return new LoadTestSettings(
+            Integer.getInteger("loadtest.rps", 200),
+            Integer.getInteger("loadtest.warm-up-seconds", 5),
+            Integer.getInteger("loadtest.duration-seconds", 30),
+            Integer.getInteger("loadtest.users", 10_000),
+            Double.parseDouble(System.getProperty("loadtest.zipf-exponent", "1.1")),
+            parseMix(System.getProperty("loadtest.mix", "charge:30,use:30,point:30,histories:10")),
+            System.getProperty("loadtest.label", "default"),
+            Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest")),
+            baseline != null ? Path.of(baseline) : null
+        );
+    }
+
+    static Map<LoadTestEndpoint, Integer> parseMix(String mix) {
+        Map<LoadTestEndpoint, Integer> weights = new EnumMap<>(LoadTestEndpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.strip().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 는 이름:비율 목록이어야 합니다: " + mix);
+            }
+            int weight = Integer.parseInt(pair[1].strip());
+            if (weight > 0) {
+                weights.put(LoadTestEndpoint.of(pair[0].strip()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 비율이 0 보다 큰 엔드포인트가 없습니다: " + mix);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.tdd.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.common.response.ErrorResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 앱을 임의 포트로 띄우고 PointController 에 부하를 준다 (./gradlew loadTest 로 실행)
+ * - 예정 시각(시작 + i / rps)마다 응답을 기다리지 않고 요청을 보낸다 (open-loop)
+ * - 유저는 zipf 분포로 뽑아서 소수 인기 유저에 요청이 몰리게 한다
+ * - 엔드포인트 / 결과별 p50 / p99 / p999 를 build/reports/loadtest/{label}.json, .txt 로 남긴다
+ * 설정은 LoadTestSettings 참고
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PointLoadTest {
+    // 측정 구간이 끝난 뒤 남은 응답을 기다리는 최대 시간
+    static final long DRAIN_SECONDS = 60;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("설정한 요청 비율로 부하를 주고 엔드포인트 / 결과별 지연 시간 리포트를 남긴다")
+    void load() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ZipfDistribution users = new ZipfDistribution(settings.users(), settings.zipfExponent());
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        URI baseUri = URI.create("http://localhost:" + port);
+
+        drive(client, baseUri, settings, users, settings.warmUpSeconds(), new LoadTestReport());
+        LoadTestReport report = new LoadTestReport();
+        long elapsed = drive(client, baseUri, settings, users, settings.durationSeconds(), report);
+
+        System.out.println(report.write(settings, elapsed, objectMapper));
+        assertThat(report.totalCount()).isPositive();
+    }
+
+    /**
+     * seconds 동안 rps 로 요청을 보내고, 모든 응답을 받을 때까지 걸린 시간을 돌려준다
+     */
+    private long drive(
+        HttpClient client,
+        URI baseUri,
+        LoadTestSettings settings,
+        ZipfDistribution users,
+        int seconds,
+        LoadTestReport report
+    ) throws InterruptedException {
+        int total = Math.toIntExact((long) settings.rps() * seconds);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rps();
+        LoadTestEndpoint[] endpoints = weighted(settings.mix());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        CountDownLatch completed = new CountDownLatch(total);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            // 앞선 요청이 밀려도 예정 시각은 그대로 둔다. 늦게 보낸 만큼 지연 시간에 포함된다
+            long scheduled = started + i * intervalNanos;
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            LoadTestEndpoint endpoint = endpoints[random.nextInt(endpoints.length)];
+            long userId = users.sample(random.nextDouble());
+            long amount = random.nextInt(1, 11) * 100L;
+
+            client.sendAsync(endpoint.request(baseUri, userId, amount), HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    report.record(endpoint, outcome(response, error), System.nanoTime() - scheduled);
+                    completed.countDown();
+                });
+        }
+        if (!completed.await(seconds + DRAIN_SECONDS, TimeUnit.SECONDS)) {
+            System.out.printf("응답을 받지 못해 리포트에서 빠진 요청: %d%n", completed.getCount());
+        }
+        return System.nanoTime() - started;
+    }
+
+    /**
+     * OK, 에러 응답의 code (ErrorCode 이름), 또는 클라이언트 예외 이름
+     */
+    private String outcome(HttpResponse<byte[]> response, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            return cause.getClass().getSimpleName();
+        }
+        if (response.statusCode() / 100 == 2) {
+            return "OK";
+        }
+        try {
+            return objectMapper.readValue(response.body(), ErrorResponse.class).code();
+        } catch (IOException | RuntimeException e) {
+            return "HTTP_" + response.statusCode();
+        }
+    }
+
+    /**
+     * 비율만큼 엔드포인트를 채운 배열 (균등하게 뽑으면 비율대로 나온다)
+     */
+    private static LoadTestEndpoint[] weighted(Map<LoadTestEndpoint, Integer> mix) {
+        return mix.entrySet().stream()
+            .flatMap(entry -> Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+            .toArray(LoadTestEndpoint[]::new);
+    }
+}
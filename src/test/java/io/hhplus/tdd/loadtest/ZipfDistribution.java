@@ -0,0 +1,37 @@
+package io.hhplus.tdd.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 1..n 순위를 zipf 분포로 뽑는다. (순위 k 의 확률 ∝ 1 / k^exponent)
+ * 누적 확률을 미리 계산해 두고 이진 탐색한다. (n = 100만이면 8MB)
+ */
+class ZipfDistribution {
+    private final double[] cumulative;
+
+    ZipfDistribution(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n 은 1 이상이어야 합니다: " + n);
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * uniform : [0, 1) 난수
+     */
+    long sample(double uniform) {
+        int index = Arrays.binarySearch(cumulative, uniform);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Math.min(index, cumulative.length - 1) + 1;
+    }
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.loadtest;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 부하 테스트 유저 분포 / 설정 테스트
+ */
+class ZipfDistributionTest {
+
+    @Test
+    @DisplayName("순위가 높은 유저일수록 많이 뽑히고, 1..n 범위를 벗어나지 않는다")
+    void skewed_towards_top_ranks() {
+        ZipfDistribution distribution = new ZipfDistribution(1_000, 1.1);
+        SplittableRandom random = new SplittableRandom(42);
+        long[] counts = new long[1_001];
+
+        for (int i = 0; i < 100_000; i++) {
+            long rank = distribution.sample(random.nextDouble());
+            assertThat(rank).isBetween(1L, 1_000L);
+            counts[(int) rank]++;
+        }
+
+        assertThat(counts[1]).isGreaterThan(counts[2]);
+        assertThat(counts[2]).isGreaterThan(counts[10]);
+        // 지수 1.1, n = 1000 이면 1위가 약 18% 를 차지한다
+        assertThat(counts[1]).isBetween(17_000L, 19_000L);
+        assertThat(distribution.sample(0.0)).isEqualTo(1L);
+        assertThat(distribution.sample(0.999_999_999)).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("mix 는 이름:비율 목록이고 비율이 0 인 엔드포인트는 뺀다")
+    void parse_mix() {
+        assertThat(LoadTestSettings.parseMix("charge:30, use:0 ,point:70"))
+            .isEqualTo(Map.of(LoadTestEndpoint.CHARGE, 30, LoadTestEndpoint.POINT, 70));
+        assertThatThrownBy(() -> LoadTestSettings.parseMix("charge"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadTestSettings.parseMix("transfer:10"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,100 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.FailingUserPointTable;
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PointAggregates 누적 / 최근 구간 집계 테스트
+ */
+class PointAggregatesTest {
+    PointAggregates aggregates;
+
+    long userId = 1L;
+    long day = Duration.ofDays(1).toMillis();
+
+    @BeforeEach
+    void setUp() {
+        // 하루 단위 3칸 = 최근 3일
+        PointProperties.Summary properties = new PointProperties.Summary();
+        properties.setBucketSize(Duration.ofDays(1));
+        properties.setBuckets(3);
+        aggregates = new PointAggregates(properties);
+    }
+
+    @Test
+    @DisplayName("누적 합계와 종류별 건수는 모든 변경을 더하고, 최근 구간은 지난 칸을 빼고 더한다")
+    void totals_and_window() {
+        aggregates.record(userId, TransactionType.CHARGE, 1_000L, 0);
+        aggregates.record(userId, TransactionType.USE, 100L, day);
+        aggregates.record(userId, TransactionType.CHARGE, 500L, 3 * day);
+        aggregates.record(userId, TransactionType.USE, 200L, 3 * day + 1);
+
+        PointSummary summary = aggregates.summary(userId, 3 * day + 2);
+
+        assertThat(summary.totalCharged()).isEqualTo(1_500L);
+        assertThat(summary.totalUsed()).isEqualTo(300L);
+        assertThat(summary.counts())
+            .containsEntry(TransactionType.CHARGE, 2L)
+            .containsEntry(TransactionType.USE, 2L);
+        assertThat(summary.windowMillis()).isEqualTo(3 * day);
+        // 0일차 충전(1,000)은 구간 밖, 1일차 사용(100)은 구간 안
+        assertThat(summary.recentCharged()).isEqualTo(500L);
+        assertThat(summary.recentUsed()).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("변경이 없는 동안 시간이 지나면 최근 구간 합계는 0 이 된다")
+    void window_expires_without_writes() {
+        aggregates.record(userId, TransactionType.CHARGE, 1_000L, day);
+
+        assertThat(aggregates.summary(userId, 3 * day).recentCharged()).isEqualTo(1_000L);
+        assertThat(aggregates.summary(userId, 4 * day).recentCharged()).isZero();
+        assertThat(aggregates.summary(userId, 4 * day).totalCharged()).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("PointService 의 집계는 내역을 합산한 값과 같다")
+    void summary_matches_histories() {
+        PointService pointService = PointServiceFixture.of(
+            new FastUserPointTable(), new FastPointHistoryTable(), new PointProperties()).pointService();
+        for (int i=1; i<=100; i++) {
+            pointService.charge(userId, 1_000L);
+            pointService.use(userId, 10L * i);
+        }
+
+        PointSummary summary = pointService.getSummary(userId);
+
+        List<PointHistory> histories = pointService.getHistories(userId);
+        long charged = histories.stream().filter(h -> h.type() == TransactionType.CHARGE).mapToLong(PointHistory::amount).sum();
+        long used = histories.stream().filter(h -> h.type() == TransactionType.USE).mapToLong(PointHistory::amount).sum();
+        assertThat(summary.totalCharged()).isEqualTo(charged);
+        assertThat(summary.totalUsed()).isEqualTo(used);
+        assertThat(summary.recentCharged()).isEqualTo(charged);
+        assertThat(summary.recentUsed()).isEqualTo(used);
+        assertThat(summary.counts()).containsEntry(TransactionType.CHARGE, 100L).containsEntry(TransactionType.USE, 100L);
+    }
+
+    @Test
+    @DisplayName("테이블 저장에 실패한 변경은 집계에 더하지 않는다")
+    void failed_write_is_not_aggregated() {
+        FailingUserPointTable userPointTable = new FailingUserPointTable();
+        PointService pointService = PointServiceFixture.of(
+            userPointTable, new FastPointHistoryTable(), new PointProperties()).pointService();
+        pointService.charge(userId, 1_000L);
+
+        userPointTable.failing(true);
+        assertThatThrownBy(() -> pointService.charge(userId, 500L)).isInstanceOf(IllegalStateException.class);
+
+        PointSummary summary = pointService.getSummary(userId);
+        assertThat(summary.totalCharged()).isEqualTo(1_000L);
+        assertThat(summary.counts()).containsEntry(TransactionType.CHARGE, 1L);
+    }
+}
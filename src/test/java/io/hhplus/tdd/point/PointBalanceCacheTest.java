@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PointBalanceCache 테스트
+ */
+class PointBalanceCacheTest {
+
+    long userId = 1L;
+
+    @Test
+    @DisplayName("충전 후 조회는 테이블을 읽지 않고 캐시된 잔액을 돌려준다")
+    void read_after_charge_hits_cache() {
+        AtomicInteger selects = new AtomicInteger();
+        FastUserPointTable userPointTable = new FastUserPointTable() {
+            @Override
+            public UserPoint selectById(Long id) {
+                selects.incrementAndGet();
+                return super.selectById(id);
+            }
+        };
+        PointServiceFixture fixture = PointServiceFixture.of(
+            userPointTable, new FastPointHistoryTable(), new PointProperties());
+        PointService pointService = fixture.pointService();
+
+        pointService.charge(userId, 1_000L);
+        pointService.use(userId, 300L);
+
+        assertThat(pointService.getPoint(userId).point()).isEqualTo(700L);
+        assertThat(pointService.getPoint(userId).point()).isEqualTo(700L);
+        assertThat(selects.get()).isEqualTo(1);
+        assertThat(fixture.pointLedger().cacheStats().hits()).isEqualTo(3L);
+        assertThat(fixture.pointLedger().cacheStats().misses()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("조회 중에 잔액이 바뀌면, 늦게 끝난 조회 결과로 캐시를 채우지 않는다")
+    void slow_load_does_not_overwrite_update() throws Exception {
+        PointBalanceCache cache = new PointBalanceCache(new PointProperties().getCache());
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<UserPoint> reader = CompletableFuture.supplyAsync(() -> cache.get(userId, id -> {
+            loading.countDown();
+            await(release);
+            return new UserPoint(id, 0L, 0L);
+        }));
+        await(loading);
+        cache.update(new UserPoint(userId, 1_000L, 1L));
+        release.countDown();
+        reader.get(5, TimeUnit.SECONDS);
+
+        UserPoint cached = cache.get(userId, id -> new UserPoint(id, -1L, 0L));
+        assertThat(cached.point()).isEqualTo(1_000L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.response.ErrorCode;
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * PointService.chargeAll 테스트
+ */
+class PointBulkChargeTest {
+    PointService pointService;
+
+    int userCount = 10;
+    int chargesPerUser = 120;
+
+    @BeforeEach
+    void setUp() {
+        PointProperties properties = new PointProperties();
+        properties.getBulk().setParallelism(4);
+        properties.getBulk().setQueueCapacity(16);
+        pointService = PointServiceFixture.of(
+            new FastUserPointTable(), new FastPointHistoryTable(), properties).pointService();
+    }
+
+    @Test
+    @DisplayName("유저별로 입력 순서대로 충전되고, 최대 잔액을 넘는 뒤쪽 요청만 실패한다")
+    void charge_all_keeps_per_user_order() {
+        // 유저 1~10 을 번갈아 가며 1,000원씩 120번
+        List<PointCommand> commands = new ArrayList<>();
+        for (int i=0; i<chargesPerUser; i++) {
+            for (long userId=1; userId<=userCount; userId++) {
+                commands.add(new PointCommand(userId, TransactionType.CHARGE, 1_000L));
+            }
+        }
+        ConcurrentLinkedQueue<PointBulkResult> results = new ConcurrentLinkedQueue<>();
+
+        pointService.chargeAll(commands.iterator(), results::add);
+
+        assertThat(results).hasSize(commands.size());
+        LongStream.rangeClosed(1, userCount).forEach(userId -> {
+            List<PointBulkResult> userResults = results.stream()
+                .filter(r -> r.userId() == userId)
+                .sorted(Comparator.comparingLong(PointBulkResult::index))
+                .toList();
+
+            for (int i=0; i<chargesPerUser; i++) {
+                PointBulkResult result = userResults.get(i);
+                if (i < 100) {
+                    assertThat(result.point()).isEqualTo(1_000L * (i + 1));
+                } else {
+                    assertThat(result.code()).isEqualTo(ErrorCode.POINT_BALANCE_OVER);
+                }
+            }
+            assertThat(pointService.getPoint(userId).point()).isEqualTo(PointPolicy.MAX_BALANCE);
+        });
+    }
+
+    @Test
+    @DisplayName("실패 결과를 쓰다가 예외가 나도 멈추지 않고 그 예외로 끝난다")
+    void failed_result_write_does_not_hang() {
+        // 한 유저에게 200번 충전해서 뒤쪽 100번은 실패 결과가 된다
+        List<PointCommand> commands = new ArrayList<>();
+        for (int i=0; i<200; i++) {
+            commands.add(new PointCommand(1L, TransactionType.CHARGE, 1_000L));
+        }
+        Consumer<PointBulkResult> disconnected = result -> {
+            if (result.code() != null) {
+                throw new UncheckedIOException(new IOException("연결이 끊겼습니다."));
+            }
+        };
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+            assertThatThrownBy(() -> pointService.chargeAll(commands.iterator(), disconnected))
+                .isInstanceOf(UncheckedIOException.class));
+    }
+}
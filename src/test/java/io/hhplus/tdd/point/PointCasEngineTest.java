@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.response.ErrorCode;
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CAS 모드 테스트
+ */
+class PointCasEngineTest {
+    PointService pointService;
+
+    long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        PointProperties properties = new PointProperties();
+        properties.setExecutionMode(PointExecutionMode.CAS);
+        pointService = PointServiceFixture.of(new FastUserPointTable(), new FastPointHistoryTable(), properties).pointService();
+    }
+
+    @Test
+    @DisplayName("동시 충전 시 최대 잔액을 넘는 요청만 실패하고, 내역은 잔액 변경 순서대로 남는다")
+    void concurrent_charge() throws Exception {
+        int threadCount = 120;
+        long amount = 1_000L;
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        ConcurrentLinkedQueue<ErrorCode> failed = new ConcurrentLinkedQueue<>();
+
+        for (int i=0; i<threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    pointService.charge(userId, amount);
+                } catch (BaseException e) {
+                    failed.add(e.getErrorCode());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        List<PointHistory> histories = pointService.getHistories(userId);
+
+        assertThat(failed).hasSize(20).containsOnly(ErrorCode.POINT_BALANCE_OVER);
+        assertThat(pointService.getPoint(userId).point()).isEqualTo(PointPolicy.MAX_BALANCE);
+        assertThat(histories).hasSize(100);
+        assertThat(histories).isSortedAccordingTo((a, b) -> Long.compare(a.id(), b.id()));
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 메모리 잔액을 버리고, 다음 요청은 저장된 잔액에서 다시 시작한다")
+    void failed_commit_reloads_state() {
+        // write-behind 에서는 저장 실패가 요청에 드러나지 않으므로 PointLedger 를 직접 실패시킨다
+        PointLedger pointLedger = mock(PointLedger.class);
+        when(pointLedger.current(userId)).thenReturn(new UserPoint(userId, 1_000L, 0L));
+        when(pointLedger.commitAll(eq(userId), anyLong(), anyList()))
+            .thenThrow(new IllegalStateException("저장 실패"))
+            .thenAnswer(invocation -> new UserPoint(userId, invocation.getArgument(1), 0L));
+        PointCasEngine engine = new PointCasEngine(pointLedger);
+        PointCommand charge = new PointCommand(userId, TransactionType.CHARGE, 500L);
+
+        assertThatThrownBy(() -> engine.execute(charge)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(engine.execute(charge).point()).isEqualTo(1_500L);
+        verify(pointLedger, times(2)).current(userId);
+    }
+
+    @Test
+    @DisplayName("CAS 모드는 테이블 저장을 기다리지 않는다 (write-behind 가 항상 켜진다)")
+    void does_not_wait_for_table() {
+        CountDownLatch release = new CountDownLatch(1);
+        FastUserPointTable blockingTable = new FastUserPointTable() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.insertOrUpdate(id, amount);
+            }
+        };
+        PointProperties properties = new PointProperties();
+        properties.setExecutionMode(PointExecutionMode.CAS);
+        PointServiceFixture fixture = PointServiceFixture.of(blockingTable, new FastPointHistoryTable(), properties);
+
+        assertThat(fixture.pointService().charge(userId, 1_000L).point()).isEqualTo(1_000L);
+        assertThat(fixture.pointService().charge(userId, 500L).point()).isEqualTo(1_500L);
+
+        release.countDown();
+        fixture.pointLedger().flush();
+        assertThat(blockingTable.selectById(userId).point()).isEqualTo(1_500L);
+    }
+}
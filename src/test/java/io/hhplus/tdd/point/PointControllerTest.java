@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * PointController 내역 조회 응답 형태 테스트
+ */
+class PointControllerTest {
+    MockMvc mockMvc;
+
+    long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        PointServiceFixture fixture = PointServiceFixture.of(
+            new FastUserPointTable(), new FastPointHistoryTable(), new PointProperties());
+        PointService pointService = fixture.pointService();
+        for (int i=0; i<150; i++) {
+            pointService.charge(userId, 100L);
+        }
+        PointController pointController = new PointController(pointService, fixture.idempotencyStore(), new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(pointController).build();
+    }
+
+    @Test
+    @DisplayName("cursor / limit 없이 호출하면 기존처럼 전체 내역을 JSON 배열로 돌려준다")
+    void histories_without_paging_returns_array() throws Exception {
+        mockMvc.perform(get("/point/{id}/histories", userId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$.length()").value(150));
+    }
+
+    @Test
+    @DisplayName("limit 이나 cursor 를 주면 페이지로 돌려준다")
+    void histories_with_paging_returns_page() throws Exception {
+        mockMvc.perform(get("/point/{id}/histories", userId).param("limit", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.histories.length()").value(20))
+            .andExpect(jsonPath("$.nextCursor").isNumber());
+    }
+}
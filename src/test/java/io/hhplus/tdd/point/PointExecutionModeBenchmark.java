@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LOCK / CAS 모드 처리량 비교 (./gradlew benchmark 로 실행)
+ * 테이블 throttle 을 뺀 테스트 더블을 써서 동시성 제어 비용만 측정한다.
+ */
+@Tag("benchmark")
+class PointExecutionModeBenchmark {
+    static final int WARMUP_OPS = 50_000;
+    static final int MEASURE_OPS = 200_000;
+
+    long userId = 1L;
+
+    @Test
+    @DisplayName("한 유저에 몰린 충전/사용 - 1, 16, 256 스레드")
+    void hot_user() throws Exception {
+        System.out.printf("%-6s %8s %12s %10s%n", "mode", "threads", "ops/sec", "p99(us)");
+        for (PointExecutionMode mode : List.of(PointExecutionMode.LOCK, PointExecutionMode.CAS)) {
+            for (int threads : new int[] {1, 16, 256}) {
+                PointService pointService = createService(mode);
+                pointService.charge(userId, 50_000L);
+
+                run(pointService, threads, WARMUP_OPS);
+                long started = System.nanoTime();
+                long[] latencies = run(pointService, threads, MEASURE_OPS);
+                long elapsed = System.nanoTime() - started;
+
+                Arrays.sort(latencies);
+                long p99 = latencies[(int) (latencies.length * 0.99)];
+                System.out.printf("%-6s %8d %12.0f %10.1f%n",
+                    mode, threads, MEASURE_OPS / (elapsed / 1e9), p99 / 1e3);
+            }
+        }
+    }
+
+    private long[] run(PointService pointService, int threads, int ops) throws Exception {
+        long[] latencies = new long[ops];
+        int perThread = ops / threads;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t=0; t<threads; t++) {
+            int offset = t * perThread;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i=0; i<perThread; i++) {
+                        long begin = System.nanoTime();
+                        try {
+                            if (i % 2 == 0) {
+                                pointService.charge(userId, 100L);
+                            } else {
+                                pointService.use(userId, 100L);
+                            }
+                        } catch (BaseException ignored) {
+                        }
+                        latencies[offset + i] = System.nanoTime() - begin;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        executor.shutdown();
+        return Arrays.copyOf(latencies, perThread * threads);
+    }
+
+    private PointService createService(PointExecutionMode mode) {
+        PointProperties properties = new PointProperties();
+        properties.setExecutionMode(mode);
+        return PointServiceFixture.of(new FastUserPointTable(), new FastPointHistoryTable(), properties)
+            .pointService();
+    }
+}
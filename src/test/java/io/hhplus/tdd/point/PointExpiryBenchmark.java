@@ -0,0 +1,105 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.util.TimingWheel;
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 만료 tick 비용 (./gradlew benchmark 로 실행)
+ * - wheel : 30일에 고르게 퍼진 lot 이 걸린 휠을 1초 tick 으로 1시간 진행한 평균과, 매 tick 전체 lot 을 훑는 방식(scan) 비교
+ * - ledger : 유저 1만 명 x lot 100 개를 한 tick 에 모두 만료시키는 시간 (유저 락 + EXPIRE 내역 저장 포함)
+ */
+@Tag("benchmark")
+class PointExpiryBenchmark {
+    static final long TICK = 1_000L;
+    static final long SPREAD = Duration.ofDays(30).toMillis();
+    static final int TICKS = 3_600;
+
+    @Test
+    @DisplayName("살아 있는 lot 수별 tick 비용 - 타이밍 휠 / 전체 scan")
+    void wheel_tick() {
+        System.out.printf("%10s %14s %14s %12s%n", "lots", "wheelTick(us)", "expired/tick", "scan(us)");
+        for (int lots : new int[] {100_000, 1_000_000, 4_000_000}) {
+            long start = System.currentTimeMillis();
+            TimingWheel<Lot> wheel = new TimingWheel<>(TICK, 512, start);
+            Random random = new Random(lots);
+            long[] deadlines = new long[lots];
+            for (int i = 0; i < lots; i++) {
+                deadlines[i] = start + 1 + (long) (random.nextDouble() * SPREAD);
+                wheel.add(new Lot(deadlines[i]));
+            }
+
+            List<Lot> expired = new ArrayList<>();
+            long started = System.nanoTime();
+            for (int i = 1; i <= TICKS; i++) {
+                wheel.advance(start + i * TICK, expired::add);
+            }
+            long wheelNanos = (System.nanoTime() - started) / TICKS;
+
+            // 비교용: 매 tick 전체 lot 을 훑어서 만료 대상을 찾는 비용 (한 번)
+            long now = start + TICKS * TICK;
+            started = System.nanoTime();
+            int due = 0;
+            for (long deadline : deadlines) {
+                if (deadline <= now) {
+                    due++;
+                }
+            }
+            long scanNanos = System.nanoTime() - started;
+            if (due != expired.size()) {
+                throw new IllegalStateException("휠 만료 수가 scan 과 다릅니다: " + expired.size() + " != " + due);
+            }
+
+            System.out.printf("%10d %14.2f %14.1f %12.1f%n",
+                lots, wheelNanos / 1e3, expired.size() / (double) TICKS, scanNanos / 1e3);
+        }
+    }
+
+    @Test
+    @DisplayName("lot 100만 개 중 만료 대상 없는 tick / 모두 만료되는 tick")
+    void ledger_tick() {
+        int users = 10_000;
+        int lotsPerUser = 100;
+        PointProperties properties = new PointProperties();
+        properties.getExpiry().setEnabled(true);
+        properties.getExpiry().setTtl(Duration.ofHours(1));
+        PointServiceFixture fixture = PointServiceFixture.of(
+            new FastUserPointTable(), new FastPointHistoryTable(), properties);
+        PointExpiryScheduler scheduler = new PointExpiryScheduler(fixture.pointLedger(), fixture.lock(), properties);
+        PointService pointService = fixture.pointService();
+        for (int i = 0; i < lotsPerUser; i++) {
+            for (long userId = 1; userId <= users; userId++) {
+                pointService.charge(userId, 100L);
+            }
+        }
+
+        long started = System.nanoTime();
+        scheduler.tick(System.currentTimeMillis());
+        long idle = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        int expiredUsers = scheduler.tick(System.currentTimeMillis() + Duration.ofDays(1).toMillis());
+        long expiring = System.nanoTime() - started;
+
+        PointExpiryStats stats = fixture.pointLedger().expiryStats();
+        System.out.printf("idle tick: %.1f us, expiring tick: %d ms (%d users, %d lots, %.0f lots/sec), live: %d%n",
+            idle / 1e3, expiring / 1_000_000, expiredUsers, stats.expiredLots(),
+            stats.expiredLots() / (expiring / 1e9), stats.liveLots());
+        scheduler.shutdown();
+        fixture.pointShardExecutor().shutdown();
+        fixture.pointLedger().shutdown();
+    }
+
+    static class Lot extends TimingWheel.Entry {
+        Lot(long deadline) {
+            super(deadline);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.FailingUserPointTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import io.hhplus.tdd.database.PointHistoryTable;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 충전 lot 차감 순서 / 만료 테스트
+ * 만료 시각은 실제 시계 기준이므로 tick 에 하루 뒤 시각을 넘겨서 만료시킨다
+ */
+class PointExpiryTest {
+    static final Duration TTL = Duration.ofHours(1);
+    static final long LATER = Duration.ofDays(1).toMillis();
+
+    FastUserPointTable userPointTable;
+    PointHistoryTable pointHistoryTable;
+    PointServiceFixture fixture;
+    PointExpiryScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+        fixture.pointShardExecutor().shutdown();
+        fixture.pointLedger().shutdown();
+    }
+
+    @Test
+    @DisplayName("사용은 오래된 lot 부터 차감하고, 만료되면 남은 금액만 EXPIRE 내역으로 소멸한다")
+    void consumes_oldest_first_and_expires_remaining() {
+        for (PointExecutionMode mode : new PointExecutionMode[] {PointExecutionMode.LOCK, PointExecutionMode.GROUP_COMMIT}) {
+            setUp(mode);
+            PointService pointService = fixture.pointService();
+            pointService.charge(1L, 1_000L);
+            pointService.charge(1L, 500L);
+            pointService.use(1L, 1_200L);
+
+            assertThat(scheduler.tick(System.currentTimeMillis() + LATER)).isEqualTo(1);
+
+            assertThat(pointService.getPoint(1L).point()).isZero();
+            assertThat(pointService.getHistories(1L, TransactionType.EXPIRE))
+                .extracting(PointHistory::amount)
+                .containsExactly(300L);
+            fixture.pointLedger().flush();
+            assertThat(pointHistoryTable.selectAllByUserId(1L))
+                .extracting(PointHistory::type)
+                .containsExactly(TransactionType.CHARGE, TransactionType.CHARGE, TransactionType.USE, TransactionType.EXPIRE);
+            assertThat(fixture.pointLedger().expiryStats()).isEqualTo(new PointExpiryStats(0L, 1L, 300L));
+        }
+    }
+
+    @Test
+    @DisplayName("다 쓴 lot 은 만료되지 않고, 만료 전에는 아무것도 소멸하지 않는다")
+    void consumed_lot_does_not_expire() {
+        setUp(PointExecutionMode.LOCK);
+        PointService pointService = fixture.pointService();
+        pointService.charge(1L, 1_000L);
+        pointService.charge(2L, 1_000L);
+        pointService.use(1L, 1_000L);
+
+        assertThat(scheduler.tick(System.currentTimeMillis())).isZero();
+        assertThat(scheduler.tick(System.currentTimeMillis() + LATER)).isEqualTo(1);
+
+        assertThat(pointService.getHistories(1L, TransactionType.EXPIRE)).isEmpty();
+        assertThat(pointService.getPoint(2L).point()).isZero();
+        assertThat(fixture.pointLedger().expiryStats().liveLots()).isZero();
+    }
+
+    @Test
+    @DisplayName("lot 을 추적하기 전의 잔액은 먼저 차감되고 소멸하지 않는다")
+    void untracked_balance_never_expires() {
+        setUp(PointExecutionMode.LOCK);
+        userPointTable.insertOrUpdate(1L, 5_000L);
+        PointService pointService = fixture.pointService();
+        pointService.charge(1L, 1_000L);
+        pointService.use(1L, 2_000L);
+
+        scheduler.tick(System.currentTimeMillis() + LATER);
+
+        assertThat(pointService.getPoint(1L).point()).isEqualTo(3_000L);
+        List<PointHistory> expired = pointService.getHistories(1L, TransactionType.EXPIRE);
+        assertThat(expired).extracting(PointHistory::amount).containsExactly(1_000L);
+    }
+
+    @Test
+    @DisplayName("CAS / SHARDED 모드에서는 만료 설정을 무시한다")
+    void disabled_in_unsupported_modes() {
+        for (PointExecutionMode mode : new PointExecutionMode[] {PointExecutionMode.CAS, PointExecutionMode.SHARDED}) {
+            setUp(mode);
+            fixture.pointService().charge(1L, 1_000L);
+
+            assertThat(fixture.pointLedger().expiryEnabled()).isFalse();
+            assertThat(scheduler.tick(System.currentTimeMillis() + LATER)).isZero();
+            assertThat(fixture.pointService().getPoint(1L).point()).isEqualTo(1_000L);
+        }
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 충전은 lot 을 남기지 않는다")
+    void failed_charge_leaves_no_lot() {
+        FailingUserPointTable failingTable = new FailingUserPointTable();
+        setUp(PointExecutionMode.LOCK, failingTable);
+        PointService pointService = fixture.pointService();
+        pointService.charge(1L, 1_000L);
+
+        failingTable.failing(true);
+        assertThatThrownBy(() -> pointService.charge(1L, 500L)).isInstanceOf(IllegalStateException.class);
+        failingTable.failing(false);
+
+        assertThat(fixture.pointLedger().expiryStats().liveLots()).isEqualTo(1L);
+        assertThat(scheduler.tick(System.currentTimeMillis() + LATER)).isEqualTo(1);
+        assertThat(pointService.getPoint(1L).point()).isZero();
+        assertThat(pointService.getHistories(1L, TransactionType.EXPIRE))
+            .extracting(PointHistory::amount)
+            .containsExactly(1_000L);
+    }
+
+    private void setUp(PointExecutionMode mode) {
+        setUp(mode, new FastUserPointTable());
+    }
+
+    private void setUp(PointExecutionMode mode, FastUserPointTable table) {
+        if (fixture != null) {
+            tearDown();
+        }
+        PointProperties properties = properties(mode);
+        userPointTable = table;
+        pointHistoryTable = new PointHistoryTable();
+        fixture = PointServiceFixture.of(userPointTable, pointHistoryTable, properties);
+        scheduler = new PointExpiryScheduler(fixture.pointLedger(), fixture.lock(), properties);
+    }
+
+    private PointProperties properties(PointExecutionMode mode) {
+        PointProperties properties = new PointProperties();
+        properties.setExecutionMode(mode);
+        properties.getExpiry().setEnabled(true);
+        properties.getExpiry().setTtl(TTL);
+        return properties;
+    }
+}
@@ -0,0 +1,116 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.response.ErrorCode;
+import io.hhplus.tdd.common.util.Lock;
+import io.hhplus.tdd.common.util.LockProperties;
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * GROUP_COMMIT 모드 테스트
+ */
+class PointGroupCommitterTest {
+    UserPointTable userPointTable;
+    PointHistoryTable pointHistoryTable;
+    PointService pointService;
+
+    long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = spy(new UserPointTable());
+        pointHistoryTable = new PointHistoryTable();
+        PointProperties properties = new PointProperties();
+        properties.setExecutionMode(PointExecutionMode.GROUP_COMMIT);
+        pointService = PointServiceFixture.of(userPointTable, pointHistoryTable, properties).pointService();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 충전은 묶여서 저장되고, 최대 잔액을 넘는 요청만 실패한다")
+    void concurrent_charge_is_batched() throws Exception {
+        int threadCount = 120;
+        long amount = 1_000L;
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        ConcurrentLinkedQueue<UserPoint> succeeded = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<ErrorCode> failed = new ConcurrentLinkedQueue<>();
+
+        for (int i=0; i<threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    succeeded.add(pointService.charge(userId, amount));
+                } catch (BaseException e) {
+                    failed.add(e.getErrorCode());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        assertThat(succeeded).hasSize(100);
+        assertThat(failed).hasSize(20).containsOnly(ErrorCode.POINT_BALANCE_OVER);
+        // 요청마다 받은 잔액은 모두 다른 중간 결과
+        assertThat(succeeded.stream().map(UserPoint::point).distinct()).hasSize(100);
+        assertThat(pointService.getPoint(userId).point()).isEqualTo(PointPolicy.MAX_BALANCE);
+        assertThat(pointService.getHistories(userId)).hasSize(100);
+        verify(userPointTable, atMost(threadCount - 1)).insertOrUpdate(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("락 대기 시간 한도로 거절된 요청은 나중에 다른 요청과 함께 적용되지 않는다")
+    void rejected_request_is_not_applied() throws Exception {
+        LockProperties lockProperties = new LockProperties();
+        lockProperties.setAcquireTimeout(Duration.ofMillis(50));
+        Lock lock = new Lock(lockProperties);
+        PointProperties properties = new PointProperties();
+        properties.setExecutionMode(PointExecutionMode.GROUP_COMMIT);
+        PointService pointService = PointServiceFixture.of(
+            new FastUserPointTable(), new FastPointHistoryTable(), properties, lock).pointService();
+
+        // 다른 스레드가 유저 락을 잡고 있는 동안 들어온 충전은 LOCK_TIMEOUT
+        ExecutorService holder = Executors.newSingleThreadExecutor();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        holder.submit(() -> {
+            lock.run(userId, () -> {
+                locked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        });
+        locked.await();
+        assertThatThrownBy(() -> pointService.charge(userId, 1_000L))
+            .isInstanceOf(BaseException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.LOCK_TIMEOUT);
+        release.countDown();
+        holder.shutdown();
+
+        UserPoint charged = pointService.charge(userId, 500L);
+
+        assertThat(charged.point()).isEqualTo(500L);
+        assertThat(pointService.getHistories(userId)).hasSize(1);
+    }
+}
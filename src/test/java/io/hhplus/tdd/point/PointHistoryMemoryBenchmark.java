@@ -0,0 +1,124 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.FastUserPointTable;
+import io.hhplus.tdd.database.PointHistoryTable;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 내역 1건당 힙 사용량과 full GC 시간 비교 (./gradlew benchmark 로 실행)
+ * - table : PointHistoryTable 에 담기는 PointHistory 목록만 (throttle 없이 같은 방식으로 보관)
+ * - columnar : PointHistoryStore 만
+ * - ledger : PointService.charge / use 로 실제 PointLedger 저장 경로를 지난 결과 전체
+ *            PointHistoryStore 는 PointHistoryTable 을 대신하지 않고 그 위에 한 벌 더 두는 사본이라 table + columnar 이상이 된다
+ */
+@Tag("benchmark")
+class PointHistoryMemoryBenchmark {
+    static final int USERS = 10_000;
+    static final int PER_USER = 500;
+
+    @Test
+    @DisplayName("유저 10k 명 x 500건 저장 후 bytes/record, full GC 시간")
+    void bytes_per_record() {
+        System.out.printf("%-9s %14s %14s%n", "layout", "bytes/record", "full GC(ms)");
+        measure("table", this::table);
+        measure("columnar", this::columnar);
+        measure("ledger", this::ledger);
+    }
+
+    private void measure(String label, Supplier<Object> fill) {
+        long before = usedAfterGc();
+        Object retained = fill.get();
+        long after = usedAfterGc();
+
+        // 살아있는 내역을 그대로 두고 full GC 한 번에 걸리는 시간
+        long gcMillis = gcMillis();
+        System.gc();
+        gcMillis = gcMillis() - gcMillis;
+
+        System.out.printf("%-9s %14.1f %14d%n",
+            label,
+            (double) (after - before) / ((long) USERS * PER_USER),
+            gcMillis);
+        Reference.reachabilityFence(retained);
+    }
+
+    private Object table() {
+        PointHistoryTable table = new RetainingPointHistoryTable();
+        for (int i = 0; i < PER_USER; i++) {
+            for (long userId = 1; userId <= USERS; userId++) {
+                TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+                table.insert(userId, 100L, type, i);
+            }
+        }
+        return table;
+    }
+
+    private Object columnar() {
+        PointHistoryStore store = new PointHistoryStore();
+        for (int i = 0; i < PER_USER; i++) {
+            for (long userId = 1; userId <= USERS; userId++) {
+                TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+                store.append(userId, 100L, type, i);
+            }
+        }
+        return store;
+    }
+
+    private Object ledger() {
+        PointServiceFixture fixture = PointServiceFixture.of(
+            new FastUserPointTable(), new RetainingPointHistoryTable(), new PointProperties());
+        for (int i = 0; i < PER_USER; i++) {
+            for (long userId = 1; userId <= USERS; userId++) {
+                if (i % 2 == 0) {
+                    fixture.pointService().charge(userId, 100L);
+                } else {
+                    fixture.pointService().use(userId, 100L);
+                }
+            }
+        }
+        fixture.pointLedger().flush();
+        fixture.pointShardExecutor().shutdown();
+        fixture.pointLedger().shutdown();
+        return fixture;
+    }
+
+    private long usedAfterGc() {
+        System.gc();
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+            .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+            .sum();
+    }
+
+    /**
+     * throttle 없이 PointHistoryTable 과 같은 방식으로 PointHistory 를 ArrayList 에 보관한다
+     */
+    private static class RetainingPointHistoryTable extends PointHistoryTable {
+        private final List<PointHistory> table = new ArrayList<>();
+        private long cursor = 1;
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+}
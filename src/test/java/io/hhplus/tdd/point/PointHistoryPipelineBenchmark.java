@@ -0,0 +1,105 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.database.FastUserPointTable;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * history-pipeline 사용 전후 락 점유 시간 / 인기 유저 처리량 비교 (./gradlew benchmark 로 실행)
+ * PointHistoryTable 의 지연(최대 300ms 무작위)을 고정 2ms 로 줄인 테스트 더블을 쓴다.
+ * drain 은 처리가 끝난 뒤 남은 내역을 테이블에 모두 반영하는 데 걸린 시간
+ */
+@Tag("benchmark")
+class PointHistoryPipelineBenchmark {
+    static final int THREADS = 16;
+    static final int OPS = 2_000;
+    static final long INSERT_MILLIS = 2L;
+
+    long userId = 1L;
+
+    @Test
+    @DisplayName("한 유저에 몰린 충전/사용 16 스레드 - 파이프라인 off / on")
+    void hot_user() throws Exception {
+        System.out.printf("%-9s %12s %14s %10s%n", "pipeline", "ops/sec", "lockHold(ms)", "drain(ms)");
+        for (boolean enabled : new boolean[] {false, true}) {
+            PointProperties properties = new PointProperties();
+            properties.getHistoryPipeline().setEnabled(enabled);
+            PointServiceFixture fixture = PointServiceFixture.of(
+                new FastUserPointTable(), new SlowHistoryTable(), properties);
+            PointService pointService = fixture.pointService();
+            pointService.charge(userId, 50_000L);
+
+            long started = System.nanoTime();
+            run(pointService);
+            long elapsed = System.nanoTime() - started;
+            fixture.pointLedger().flush();
+            long drained = System.nanoTime() - started - elapsed;
+
+            Timer lockHold = fixture.pointMetrics().timers().get("lockHold");
+            System.out.printf("%-9s %12.0f %14.3f %10d%n",
+                enabled ? "on" : "off",
+                OPS / (elapsed / 1e9),
+                lockHold.mean(TimeUnit.MILLISECONDS),
+                drained / 1_000_000);
+            fixture.pointLedger().shutdown();
+        }
+    }
+
+    private void run(PointService pointService) throws Exception {
+        int perThread = OPS / THREADS;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+
+        for (int t=0; t<THREADS; t++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int i=0; i<perThread; i++) {
+                        try {
+                            if (i % 2 == 0) {
+                                pointService.charge(userId, 100L);
+                            } else {
+                                pointService.use(userId, 100L);
+                            }
+                        } catch (BaseException ignored) {
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        executor.shutdown();
+    }
+
+    /**
+     * 내역 1건 저장에 INSERT_MILLIS 가 걸리는 PointHistoryTable
+     */
+    private static class SlowHistoryTable extends PointHistoryTable {
+        private final AtomicLong cursor = new AtomicLong(1);
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(INSERT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+        }
+    }
+}
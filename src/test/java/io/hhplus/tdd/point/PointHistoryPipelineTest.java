@@ -0,0 +1,149 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.FastUserPointTable;
+import io.hhplus.tdd.database.PointHistoryTable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * history-pipeline 을 켠 PointLedger 의 내역 반영 테스트
+ */
+class PointHistoryPipelineTest {
+    // 기다리지 않고 바로 반영하는 테이블용
+    static final CountDownLatch OPEN = new CountDownLatch(0);
+
+    PointLedger pointLedger;
+
+    @AfterEach
+    void tearDown() {
+        pointLedger.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 유저가 동시에 충전해도 테이블에는 유저별로 요청 순서대로 반영된다")
+    void keeps_per_user_order() throws Exception {
+        RecordingHistoryTable table = new RecordingHistoryTable(OPEN);
+        PointService pointService = pointService(table, 4);
+        int users = 8;
+        int chargesPerUser = 200;
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        for (long userId = 1; userId <= users; userId++) {
+            long id = userId;
+            executor.submit(() -> {
+                for (int i = 1; i <= chargesPerUser; i++) {
+                    pointService.charge(id, 100L + i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        pointLedger.flush();
+
+        for (long userId = 1; userId <= users; userId++) {
+            List<Long> amounts = table.amounts(userId);
+            assertThat(amounts).hasSize(chargesPerUser);
+            for (int i = 0; i < chargesPerUser; i++) {
+                assertThat(amounts.get(i)).isEqualTo(101L + i);
+            }
+        }
+        assertThat(pointLedger.historyPipelineStats().applied()).isEqualTo((long) users * chargesPerUser);
+        assertThat(pointLedger.historyPipelineStats().pending()).isZero();
+    }
+
+    @Test
+    @Timeout(30)
+    @DisplayName("테이블 반영이 멈춰 있어도 충전은 끝나고, 내역 조회는 바로 보인다. flush 는 반영될 때까지 기다린다")
+    void read_your_writes_while_table_is_blocked() throws Exception {
+        CountDownLatch open = new CountDownLatch(1);
+        RecordingHistoryTable table = new RecordingHistoryTable(open);
+        PointService pointService = pointService(table, 1);
+
+        pointService.charge(1L, 1_000L);
+        pointService.use(1L, 300L);
+
+        assertThat(pointService.getPoint(1L).point()).isEqualTo(700L);
+        assertThat(pointService.getHistories(1L)).extracting(PointHistory::type)
+            .containsExactly(TransactionType.CHARGE, TransactionType.USE);
+        assertThat(table.amounts(1L)).isEmpty();
+
+        CountDownLatch flushed = new CountDownLatch(1);
+        Thread flusher = new Thread(() -> {
+            pointLedger.flush();
+            flushed.countDown();
+        });
+        flusher.start();
+        assertThat(flushed.await(100, TimeUnit.MILLISECONDS)).isFalse();
+
+        open.countDown();
+        assertThat(flushed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(table.amounts(1L)).containsExactly(1_000L, 300L);
+    }
+
+    @Test
+    @DisplayName("종료하면 남은 내역을 모두 반영한다")
+    void shutdown_drains() {
+        RecordingHistoryTable table = new RecordingHistoryTable(OPEN);
+        PointService pointService = pointService(table, 2);
+        for (int i = 0; i < 1_000; i++) {
+            pointService.charge(i % 10 + 1, 100L);
+        }
+
+        pointLedger.shutdown();
+
+        long applied = 0;
+        for (long userId = 1; userId <= 10; userId++) {
+            applied += table.amounts(userId).size();
+        }
+        assertThat(applied).isEqualTo(1_000L);
+    }
+
+    private PointService pointService(PointHistoryTable table, int workers) {
+        PointProperties properties = new PointProperties();
+        properties.getHistoryPipeline().setEnabled(true);
+        properties.getHistoryPipeline().setWorkers(workers);
+        properties.getHistoryPipeline().setBatchSize(16);
+        PointServiceFixture fixture = PointServiceFixture.of(new FastUserPointTable(), table, properties);
+        pointLedger = fixture.pointLedger();
+        return fixture.pointService();
+    }
+
+    /**
+     * 유저별 반영 순서를 기록하는 테이블. open 이 열릴 때까지 반영을 멈춘다
+     */
+    private static class RecordingHistoryTable extends PointHistoryTable {
+        private final CountDownLatch open;
+        private final ConcurrentMap<Long, List<Long>> amounts = new ConcurrentHashMap<>();
+        private long cursor = 1;
+
+        RecordingHistoryTable(CountDownLatch open) {
+            this.open = open;
+        }
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            try {
+                open.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            amounts.computeIfAbsent(userId, id -> new ArrayList<>()).add(amount);
+            return new PointHistory(cursor++, userId, amount, type, updateMillis);
+        }
+
+        List<Long> amounts(long userId) {
+            return amounts.getOrDefault(userId, List.of());
+        }
+    }
+}
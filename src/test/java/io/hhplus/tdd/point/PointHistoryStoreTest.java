@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PointHistoryStore 저장 / 커서 조회 테스트
+ */
+class PointHistoryStoreTest {
+    PointHistoryStore store;
+
+    long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        store = new PointHistoryStore();
+        // 충전 / 사용을 번갈아 300건, 다른 유저 내역도 섞어서 저장
+        for (long i=1; i<=300; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            store.append(userId, 100L, type, i);
+            store.append(2L, 100L, TransactionType.CHARGE, i);
+        }
+    }
+
+    @Test
+    @DisplayName("nextCursor 로 이어서 조회하면 전체 내역을 순서대로 한 번씩 읽는다")
+    void page_through_all() {
+        Long cursor = 0L;
+        long expectedId = 1L;
+        int count = 0;
+
+        while (cursor != null) {
+            PointHistoryPage page = store.selectPage(userId, cursor, 128, null);
+            for (PointHistory history : page.histories()) {
+                assertThat(history.id()).isEqualTo(expectedId);
+                expectedId += 2;
+                count++;
+            }
+            cursor = page.nextCursor();
+        }
+
+        assertThat(count).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("type 을 지정하면 해당 종류의 내역만 조회한다")
+    void page_by_type() {
+        PointHistoryPage page = store.selectPage(userId, 0L, 1_000, TransactionType.USE);
+
+        assertThat(page.histories()).hasSize(150)
+            .allMatch(h -> h.type() == TransactionType.USE);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("내역이 없는 유저는 빈 페이지")
+    void empty_user() {
+        PointHistoryPage page = store.selectPage(99L, 0L, 10, null);
+
+        assertThat(page.histories()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("조회한 목록은 이후에 추가된 내역을 포함하지 않는다")
+    void snapshot_is_stable() {
+        List<PointHistory> before = store.selectAll(userId);
+
+        store.append(userId, 100L, TransactionType.CHARGE, 301L);
+
+        assertThat(before).hasSize(300);
+        assertThat(store.selectAll(userId)).hasSize(301);
+    }
+
+    @Test
+    @DisplayName("여러 유저가 동시에 저장해도 내역이 유실되거나 id 가 겹치지 않는다")
+    void concurrent_users() throws Exception {
+        int users = 32;
+        int perUser = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        CountDownLatch latch = new CountDownLatch(users);
+
+        for (long user = 100; user < 100 + users; user++) {
+            long id = user;
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < perUser; i++) {
+                        store.append(id, 100L, TransactionType.CHARGE, i);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        List<Long> ids = LongStream.range(100, 100 + users)
+            .boxed()
+            .flatMap(user -> store.selectAll(user).stream())
+            .map(PointHistory::id)
+            .toList();
+        assertThat(ids).hasSize(users * perUser).doesNotHaveDuplicates();
+        for (long user = 100; user < 100 + users; user++) {
+            assertThat(store.selectAll(user)).isSortedAccordingTo((a, b) -> Long.compare(a.id(), b.id()));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PointController 내역 스트리밍 응답 테스트
+ */
+class PointHistoryStreamTest {
+    PointController pointController;
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        PointServiceFixture fixture = PointServiceFixture.of(
+            new FastUserPointTable(), new FastPointHistoryTable(), new PointProperties());
+        PointService pointService = fixture.pointService();
+        pointController = new PointController(pointService, fixture.idempotencyStore(), objectMapper);
+        // 충전 / 사용을 번갈아 1,000건 (플러시 간격보다 길게)
+        for (int i=0; i<500; i++) {
+            pointService.charge(userId, 100L);
+            pointService.use(userId, 100L);
+        }
+    }
+
+    @Test
+    @DisplayName("JSON 배열로 전체 내역을 순서대로 쓴다")
+    void stream_json_array() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        pointController.streamHistory(userId, null).writeTo(output);
+
+        JsonNode histories = objectMapper.readTree(output.toByteArray());
+        assertThat(histories.isArray()).isTrue();
+        assertThat(histories).hasSize(1_000);
+        for (int i=1; i<histories.size(); i++) {
+            assertThat(histories.get(i).get("id").asLong()).isGreaterThan(histories.get(i - 1).get("id").asLong());
+        }
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 한 줄에 한 건씩, type 을 지정하면 해당 종류만 쓴다")
+    void stream_ndjson_by_type() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        pointController.streamHistoryLines(userId, TransactionType.USE).writeTo(output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(500);
+        for (String line : lines) {
+            assertThat(objectMapper.readValue(line, PointHistory.class).type()).isEqualTo(TransactionType.USE);
+        }
+    }
+}
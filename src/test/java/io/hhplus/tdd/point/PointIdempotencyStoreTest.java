@@ -0,0 +1,136 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.response.ErrorCode;
+import io.hhplus.tdd.common.util.Lock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PointIdempotencyStore 중복 요청 처리 테스트
+ */
+class PointIdempotencyStoreTest {
+    PointIdempotencyStore store;
+    AtomicInteger executed;
+
+    PointCommand charge = new PointCommand(1L, TransactionType.CHARGE, 1_000L);
+
+    @BeforeEach
+    void setUp() {
+        store = new PointIdempotencyStore(
+            new PointProperties(), new PointMetrics(new SimpleMeterRegistry(), new Lock()));
+        executed = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 처리하지 않고 처음 결과를 돌려준다")
+    void retry_returns_first_result() {
+        UserPoint first = store.execute("key-1", charge, this::succeed).join();
+        UserPoint retried = store.execute("key-1", charge, this::succeed).join();
+
+        assertThat(retried).isEqualTo(first);
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(store.stats().hits()).isEqualTo(1L);
+        assertThat(store.stats().misses()).isEqualTo(1L);
+        assertThat(store.stats().estimatedBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("키는 유저별로 구분하고, 키가 없으면 매번 처리한다")
+    void keys_are_scoped_per_user() {
+        store.execute("key-1", charge, this::succeed).join();
+        store.execute("key-1", new PointCommand(2L, TransactionType.CHARGE, 1_000L), this::succeed).join();
+        store.execute(null, charge, this::succeed).join();
+        store.execute(null, charge, this::succeed).join();
+
+        assertThat(executed.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("같은 키로 금액이나 종류가 다른 요청을 보내면 거절한다")
+    void mismatched_request_is_rejected() {
+        store.execute("key-1", charge, this::succeed).join();
+
+        CompletableFuture<UserPoint> mismatched =
+            store.execute("key-1", new PointCommand(1L, TransactionType.USE, 1_000L), this::succeed);
+
+        assertThatThrownBy(mismatched::join)
+            .hasCauseInstanceOf(BaseException.class)
+            .hasRootCauseMessage(ErrorCode.IDEMPOTENCY_KEY_MISMATCH.getErrMsg());
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(store.stats().mismatches()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 키를 남기지 않아서 재시도하면 다시 처리한다")
+    void failed_request_can_be_retried() {
+        CompletableFuture<UserPoint> failed = store.execute("key-1", charge, () -> {
+            executed.incrementAndGet();
+            return CompletableFuture.failedFuture(new BaseException(ErrorCode.POINT_BALANCE_OVER));
+        });
+        assertThatThrownBy(failed::join).hasCauseInstanceOf(BaseException.class);
+
+        store.execute("key-1", charge, this::succeed).join();
+
+        assertThat(executed.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("처리 중에 같은 키로 동시에 들어온 요청은 한 번만 처리하고 같은 결과를 받는다")
+    void concurrent_duplicates_execute_once() throws Exception {
+        int threads = 16;
+        CompletableFuture<UserPoint> pending = new CompletableFuture<>();
+        CountDownLatch ready = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<CompletableFuture<UserPoint>>> results = new ArrayList<>();
+
+        for (int i=0; i<threads; i++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                ready.await();
+                return store.execute("key-1", charge, () -> {
+                    executed.incrementAndGet();
+                    return pending;
+                });
+            }));
+        }
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (Future<CompletableFuture<UserPoint>> result : results) {
+            futures.add(result.get());
+        }
+        UserPoint userPoint = new UserPoint(1L, 1_000L, 0L);
+        pending.complete(userPoint);
+        executor.shutdown();
+
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(futures).allMatch(future -> future.join().equals(userPoint));
+    }
+
+    @Test
+    @DisplayName("비어 있거나 너무 긴 키는 거절한다")
+    void invalid_key_is_rejected() {
+        CompletableFuture<UserPoint> blank = store.execute(" ", charge, this::succeed);
+        CompletableFuture<UserPoint> tooLong = store.execute("k".repeat(256), charge, this::succeed);
+
+        assertThatThrownBy(blank::join).hasCauseInstanceOf(BaseException.class);
+        assertThatThrownBy(tooLong::join).hasCauseInstanceOf(BaseException.class);
+        assertThat(executed.get()).isZero();
+    }
+
+    private CompletableFuture<UserPoint> succeed() {
+        int count = executed.incrementAndGet();
+        return CompletableFuture.completedFuture(new UserPoint(1L, 1_000L * count, count));
+    }
+}
@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.response.ErrorCode;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * write-behind 모드 PointLedger 테스트
+ */
+class PointLedgerTest {
+    UserPointTable userPointTable;
+    PointHistoryTable pointHistoryTable;
+    PointLedger pointLedger;
+    PointService pointService;
+
+    long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = new UserPointTable();
+        pointHistoryTable = new PointHistoryTable();
+        PointProperties properties = new PointProperties();
+        properties.getWriteBehind().setEnabled(true);
+        PointServiceFixture fixture = PointServiceFixture.of(userPointTable, pointHistoryTable, properties);
+        pointLedger = fixture.pointLedger();
+        pointService = fixture.pointService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointLedger.shutdown();
+    }
+
+    @Test
+    @DisplayName("충전 결과는 메모리 기준으로 바로 응답하고, flush 후 테이블에 반영된다")
+    void charge_then_flush() {
+        UserPoint result = pointService.charge(userId, 1_000L);
+
+        assertThat(result.point()).isEqualTo(1_000L);
+        assertThat(pointService.getPoint(userId).point()).isEqualTo(1_000L);
+
+        pointLedger.flush();
+        assertThat(userPointTable.selectById(userId).point()).isEqualTo(1_000L);
+        assertThat(pointHistoryTable.selectAllByUserId(userId)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("잔액 규칙은 메모리 잔액 기준으로 동일하게 적용된다")
+    void use_over_balance() {
+        pointService.charge(userId, 500L);
+
+        assertThatThrownBy(() -> pointService.use(userId, 1_000L))
+            .isInstanceOf(BaseException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.POINT_BALANCE_NEGATIVE);
+    }
+
+    @Test
+    @DisplayName("동시에 100번 충전해도 테이블에는 순서대로 저장된다")
+    void concurrent_charge_keeps_order() throws Exception {
+        int threadCount = 100;
+        long amount = 100L;
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int i=0; i<threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    pointService.charge(userId, amount);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+
+        List<PointHistory> histories = pointService.getHistories(userId);
+
+        assertThat(histories).hasSize(threadCount);
+        assertThat(userPointTable.selectById(userId).point()).isEqualTo(amount * threadCount);
+    }
+}
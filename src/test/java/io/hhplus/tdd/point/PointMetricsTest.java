@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.response.ErrorCode;
+import io.hhplus.tdd.common.util.HotKeyTracker;
+import io.hhplus.tdd.common.util.Lock;
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PointMetrics 테스트
+ */
+class PointMetricsTest {
+
+    @Test
+    @DisplayName("거절된 요청은 ErrorCode 별로, 테이블 호출과 락 점유는 타이머로 집계된다")
+    void records_rejections_and_timers() {
+        PointServiceFixture fixture = PointServiceFixture.of(
+            new FastUserPointTable(), new FastPointHistoryTable(), new PointProperties());
+        PointService pointService = fixture.pointService();
+
+        pointService.charge(1L, 1_000L);
+        assertThatThrownBy(() -> pointService.use(1L, 5_000L)).isInstanceOf(BaseException.class);
+        assertThatThrownBy(() -> pointService.use(1L, 50L)).isInstanceOf(BaseException.class);
+
+        // 내역 저장은 history-pipeline 이 비동기로 하므로 반영을 기다린다
+        fixture.pointLedger().flush();
+        PointMetrics pointMetrics = fixture.pointMetrics();
+        assertThat(pointMetrics.rejections().get(ErrorCode.POINT_BALANCE_NEGATIVE).count()).isEqualTo(1.0);
+        assertThat(pointMetrics.rejections().get(ErrorCode.POINT_LESS_THAN_100).count()).isEqualTo(1.0);
+        assertThat(pointMetrics.timers().get("lockHold").count()).isEqualTo(2L);
+        assertThat(pointMetrics.timers().get("tableUpdate").count()).isEqualTo(1L);
+        assertThat(pointMetrics.timers().get("historyInsert").count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("락 대기 시간이 가장 많이 누적된 유저가 상위에 온다")
+    void hot_users() {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry(), new Lock());
+
+        for (int i=0; i<100; i++) {
+            pointMetrics.acquired(7L, 1_000_000L);
+            pointMetrics.acquired(i + 100L, 1_000L);
+        }
+
+        HotKeyTracker.Entry top = pointMetrics.hotUsers().get(0);
+        assertThat(top.key()).isEqualTo(7L);
+        assertThat(top.value()).isEqualTo(100_000_000L);
+    }
+}
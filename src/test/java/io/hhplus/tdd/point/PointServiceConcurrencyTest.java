@@ -24,8 +24,10 @@ public class PointServiceConcurrencyTest {
     void setUp() {
         userPointTable = new UserPointTable();
         pointHistoryTable = new PointHistoryTable();
-        lock = new Lock();
-        pointService = new PointService(userPointTable, pointHistoryTable, lock);
+        PointServiceFixture fixture =
+            PointServiceFixture.of(userPointTable, pointHistoryTable, new PointProperties());
+        lock = fixture.lock();
+        pointService = fixture.pointService();
         // 초기 잔액 = 0
         userPointTable.insertOrUpdate(userId, 0L);
     }
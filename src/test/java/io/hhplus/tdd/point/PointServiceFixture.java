@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.util.Lock;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 테스트 / 벤치마크용 PointService 조립 (스프링 컨텍스트 없이 실제 구현으로 연결)
+ */
+public record PointServiceFixture(
+        PointService pointService,
+        PointLedger pointLedger,
+        PointShardExecutor pointShardExecutor,
+        PointMetrics pointMetrics,
+        Lock lock
+) {
+    public static PointServiceFixture of(
+        UserPointTable userPointTable,
+        PointHistoryTable pointHistoryTable,
+        PointProperties properties
+    ) {
+        return of(userPointTable, pointHistoryTable, properties, new Lock());
+    }
+
+    public static PointServiceFixture of(
+        UserPointTable userPointTable,
+        PointHistoryTable pointHistoryTable,
+        PointProperties properties,
+        Lock lock
+    ) {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry(), lock);
+        pointMetrics.observeLock();
+        PointLedger pointLedger = new PointLedger(
+            userPointTable, pointHistoryTable, new PointHistoryStore(), pointMetrics, properties);
+        PointShardExecutor pointShardExecutor = new PointShardExecutor(pointLedger, pointMetrics, properties);
+        PointService pointService = new PointService(
+            pointLedger,
+            new PointGroupCommitter(pointLedger, lock, properties),
+            new PointCasEngine(pointLedger),
+            pointShardExecutor,
+            lock,
+            pointMetrics,
+            properties
+        );
+        return new PointServiceFixture(pointService, pointLedger, pointShardExecutor, pointMetrics, lock);
+    }
+
+    /**
+     * 기본 설정의 Idempotency-Key 저장소 (컨트롤러 조립용)
+     */
+    public PointIdempotencyStore idempotencyStore() {
+        return new PointIdempotencyStore(new PointProperties(), pointMetrics);
+    }
+}
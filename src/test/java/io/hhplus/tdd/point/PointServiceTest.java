@@ -5,6 +5,7 @@ import io.hhplus.tdd.common.response.ErrorCode;
 import io.hhplus.tdd.common.util.Lock;
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -30,7 +31,20 @@ class PointServiceTest {
         userPointTable = mock(UserPointTable.class);
         pointHistoryTable = mock(PointHistoryTable.class);
         lock = mock(Lock.class);
-        pointService = new PointService(userPointTable, pointHistoryTable, lock);
+        PointProperties properties = new PointProperties();
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry(), lock);
+        pointMetrics.observeLock();
+        PointLedger pointLedger = new PointLedger(
+            userPointTable, pointHistoryTable, new PointHistoryStore(), pointMetrics, properties);
+        pointService = new PointService(
+            pointLedger,
+            new PointGroupCommitter(pointLedger, lock, properties),
+            new PointCasEngine(pointLedger),
+            new PointShardExecutor(pointLedger, pointMetrics, properties),
+            lock,
+            pointMetrics,
+            properties
+        );
     }
 
     @Nested
@@ -63,7 +77,8 @@ class PointServiceTest {
                 .selectById(userId);
             verify(userPointTable, times(1))
                 .insertOrUpdate(userId, 3_000L);
-            verify(pointHistoryTable, times(1))
+            // 내역은 history-pipeline 이 유저 락 밖에서 옮겨 적는다
+            verify(pointHistoryTable, timeout(1_000).times(1))
                 .insert(eq(userId), eq(amount), eq(TransactionType.CHARGE), anyLong());
         }
 
@@ -112,7 +127,7 @@ class PointServiceTest {
 
             assertThat(result.point()).isEqualTo(4_000L);
 
-            verify(pointHistoryTable, times(1)).insert(
+            verify(pointHistoryTable, timeout(1_000).times(1)).insert(
                 eq(userId), eq(1_000L), eq(TransactionType.USE), anyLong());
         }
 
@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.response.ErrorCode;
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SHARDED 모드 테스트
+ */
+class PointShardExecutorTest {
+    PointServiceFixture fixture;
+    PointService pointService;
+
+    long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        PointProperties properties = new PointProperties();
+        properties.setExecutionMode(PointExecutionMode.SHARDED);
+        properties.getShard().setCount(4);
+        fixture = PointServiceFixture.of(new FastUserPointTable(), new FastPointHistoryTable(), properties);
+        pointService = fixture.pointService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.pointShardExecutor().shutdown();
+    }
+
+    @Test
+    @DisplayName("한 유저에 몰린 비동기 충전은 shard 에서 순서대로 처리되고, 최대 잔액을 넘는 요청만 실패한다")
+    void concurrent_async_charge() {
+        int requestCount = 120;
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            futures.add(pointService.chargeAsync(userId, 1_000L));
+        }
+
+        List<Throwable> failed = new ArrayList<>();
+        for (CompletableFuture<UserPoint> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                failed.add(e.getCause());
+            }
+        }
+
+        assertThat(failed).hasSize(20)
+            .allMatch(e -> ((BaseException) e).getErrorCode() == ErrorCode.POINT_BALANCE_OVER);
+        assertThat(pointService.getPoint(userId).point()).isEqualTo(PointPolicy.MAX_BALANCE);
+        assertThat(pointService.getHistories(userId)).hasSize(100);
+        assertThat(futures.get(0).join().point()).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("동기 호출도 shard 를 거쳐 같은 예외를 그대로 던진다")
+    void sync_call_rethrows_base_exception() {
+        pointService.charge(userId, 1_000L);
+
+        assertThatThrownBy(() -> pointService.use(userId, 5_000L))
+            .isInstanceOf(BaseException.class)
+            .extracting("errorCode").isEqualTo(ErrorCode.POINT_BALANCE_NEGATIVE);
+        assertThat(fixture.pointShardExecutor().stats().stream().mapToLong(PointShardStats::processed).sum())
+            .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("shard 스레드는 테이블 저장을 기다리지 않는다 (write-behind 가 항상 켜진다)")
+    void shard_does_not_wait_for_table() {
+        fixture.pointShardExecutor().shutdown();
+        CountDownLatch release = new CountDownLatch(1);
+        FastUserPointTable blockingTable = new FastUserPointTable() {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.insertOrUpdate(id, amount);
+            }
+        };
+        PointProperties properties = new PointProperties();
+        properties.setExecutionMode(PointExecutionMode.SHARDED);
+        properties.getShard().setCount(1);
+        fixture = PointServiceFixture.of(blockingTable, new FastPointHistoryTable(), properties);
+        pointService = fixture.pointService();
+
+        assertThat(pointService.charge(userId, 1_000L).point()).isEqualTo(1_000L);
+        assertThat(pointService.charge(2L, 500L).point()).isEqualTo(500L);
+
+        release.countDown();
+        fixture.pointLedger().flush();
+        assertThat(blockingTable.selectById(userId).point()).isEqualTo(1_000L);
+    }
+}
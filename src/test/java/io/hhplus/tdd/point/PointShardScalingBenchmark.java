@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import java.util.LongSummaryStatistics;
+import java.util.concurrent.Semaphore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SHARDED 모드 shard 수에 따른 처리량 (./gradlew benchmark 로 실행)
+ * 요청 스레드 하나가 최대 IN_FLIGHT 개의 비동기 요청을 유지하면서 여러 유저에 고르게 충전/사용한다.
+ */
+@Tag("benchmark")
+class PointShardScalingBenchmark {
+    static final int USERS = 10_000;
+    static final int IN_FLIGHT = 4_096;
+    static final int WARMUP_OPS = 100_000;
+    static final int MEASURE_OPS = 500_000;
+
+    @Test
+    @DisplayName("shard 1 ~ 코어 수 x 2 까지의 처리량 곡선")
+    void scaling_curve() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("cores=%d%n%8s %12s %8s %14s%n", cores, "shards", "ops/sec", "speedup", "per-shard min/max");
+
+        double baseline = 0;
+        for (int shards = 1; shards <= cores * 2; shards *= 2) {
+            PointServiceFixture fixture = createFixture(shards);
+            PointService pointService = fixture.pointService();
+            for (long userId = 1; userId <= USERS; userId++) {
+                pointService.charge(userId, 50_000L);
+            }
+
+            run(pointService, WARMUP_OPS);
+            long started = System.nanoTime();
+            run(pointService, MEASURE_OPS);
+            double opsPerSec = MEASURE_OPS / ((System.nanoTime() - started) / 1e9);
+            if (shards == 1) {
+                baseline = opsPerSec;
+            }
+
+            LongSummaryStatistics processed = fixture.pointShardExecutor().stats().stream()
+                .mapToLong(PointShardStats::processed)
+                .summaryStatistics();
+            System.out.printf("%8d %12.0f %8.2f %7d/%d%n",
+                shards, opsPerSec, opsPerSec / baseline, processed.getMin(), processed.getMax());
+            fixture.pointShardExecutor().shutdown();
+        }
+    }
+
+    private void run(PointService pointService, int ops) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(IN_FLIGHT);
+        for (int i = 0; i < ops; i++) {
+            inFlight.acquire();
+            long userId = (i % USERS) + 1;
+            // 유저마다 충전 -> 사용을 번갈아 해서 잔액이 한도에 걸리지 않게 유지
+            (i / USERS % 2 == 0 ? pointService.chargeAsync(userId, 100L) : pointService.useAsync(userId, 100L))
+                .whenComplete((result, e) -> inFlight.release());
+        }
+        inFlight.acquire(IN_FLIGHT);
+    }
+
+    private PointServiceFixture createFixture(int shards) {
+        PointProperties properties = new PointProperties();
+        properties.setExecutionMode(PointExecutionMode.SHARDED);
+        properties.getShard().setCount(shards);
+        return PointServiceFixture.of(new FastUserPointTable(), new FastPointHistoryTable(), properties);
+    }
+}
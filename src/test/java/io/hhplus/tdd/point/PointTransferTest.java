@@ -0,0 +1,166 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.response.ErrorCode;
+import io.hhplus.tdd.common.util.Lock;
+import io.hhplus.tdd.common.util.LockProperties;
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * PointService.transfer 테스트
+ */
+class PointTransferTest {
+    PointService pointService;
+
+    @Test
+    @DisplayName("여러 명에게 나눠 보내면 보낸 금액만큼 빠지고 받은 유저마다 더해지며, 내역이 함께 남는다")
+    void fan_out_transfer() {
+        pointService = pointService(new PointProperties(), new Lock());
+        pointService.charge(1L, 10_000L);
+        pointService.charge(2L, 1_000L);
+
+        PointTransferResult result = pointService.transfer(1L, List.of(
+            new PointTransferItem(2L, 3_000L),
+            new PointTransferItem(3L, 2_000L),
+            new PointTransferItem(2L, 500L)
+        ));
+
+        assertThat(result.from().point()).isEqualTo(4_500L);
+        assertThat(result.recipients()).extracting(UserPoint::point).containsExactly(4_500L, 2_000L);
+        assertThat(pointService.getHistories(1L)).extracting(PointHistory::type)
+            .containsExactly(TransactionType.CHARGE,
+                TransactionType.TRANSFER_OUT, TransactionType.TRANSFER_OUT, TransactionType.TRANSFER_OUT);
+        assertThat(pointService.getHistories(2L)).extracting(PointHistory::amount)
+            .containsExactly(1_000L, 3_000L, 500L);
+    }
+
+    @Test
+    @DisplayName("받는 유저 한 명이라도 최대 잔액을 넘으면 아무것도 바뀌지 않는다")
+    void rejected_transfer_changes_nothing() {
+        pointService = pointService(new PointProperties(), new Lock());
+        pointService.charge(1L, 10_000L);
+        pointService.charge(3L, PointPolicy.MAX_BALANCE);
+
+        assertThatThrownBy(() -> pointService.transfer(1L, List.of(
+            new PointTransferItem(2L, 1_000L),
+            new PointTransferItem(3L, 1_000L)
+        )))
+            .isInstanceOf(BaseException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.POINT_BALANCE_OVER);
+
+        assertThat(pointService.getPoint(1L).point()).isEqualTo(10_000L);
+        assertThat(pointService.getPoint(2L).point()).isZero();
+        assertThat(pointService.getHistories(1L)).hasSize(1);
+        assertThat(pointService.getHistories(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자신에게 보내거나, 유저 락으로 직렬화하지 않는 모드에서는 거절한다")
+    void invalid_transfer() {
+        pointService = pointService(new PointProperties(), new Lock());
+        assertThatThrownBy(() -> pointService.transfer(1L, List.of(new PointTransferItem(1L, 1_000L))))
+            .isInstanceOf(BaseException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.POINT_TRANSFER_INVALID);
+
+        PointProperties cas = new PointProperties();
+        cas.setExecutionMode(PointExecutionMode.CAS);
+        pointService = pointService(cas, new Lock());
+        assertThatThrownBy(() -> pointService.transfer(1L, List.of(new PointTransferItem(2L, 1_000L))))
+            .isInstanceOf(BaseException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.POINT_TRANSFER_UNSUPPORTED);
+    }
+
+    @Test
+    @DisplayName("유저 10k 명 사이의 무작위 송금 후에도 전체 포인트 합계가 유지된다 (유저별 락)")
+    void random_transfers_conserve_supply() throws Exception {
+        stress(new Lock());
+    }
+
+    @Test
+    @DisplayName("stripe 를 공유하는 유저끼리 송금해도 교착 없이 전체 포인트 합계가 유지된다 (striped 락)")
+    void random_transfers_conserve_supply_striped() throws Exception {
+        LockProperties properties = new LockProperties();
+        properties.setMode(LockProperties.Mode.STRIPED);
+        properties.setStripes(16);
+        stress(new Lock(properties));
+    }
+
+    private void stress(Lock lock) throws Exception {
+        int users = 10_000;
+        long initial = 10_000L;
+        int threads = 16;
+        int transfersPerThread = 2_000;
+        pointService = pointService(new PointProperties(), lock);
+        for (long userId = 1; userId <= users; userId++) {
+            pointService.charge(userId, initial);
+        }
+
+        AtomicInteger succeeded = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < transfersPerThread; i++) {
+                    long from = random.nextLong(1, users + 1);
+                    List<PointTransferItem> recipients = new ArrayList<>();
+                    int fanOut = random.nextInt(1, 4);
+                    for (int r = 0; r < fanOut; r++) {
+                        // 절반은 소수의 인기 유저에게 몰아서 보낸다
+                        long to = random.nextBoolean() ? random.nextLong(1, 11) : random.nextLong(1, users + 1);
+                        if (to != from) {
+                            recipients.add(new PointTransferItem(to, 100L * random.nextInt(1, 50)));
+                        }
+                    }
+                    if (recipients.isEmpty()) {
+                        continue;
+                    }
+                    try {
+                        pointService.transfer(from, recipients);
+                        succeeded.incrementAndGet();
+                    } catch (BaseException e) {
+                        // 잔액 부족 / 최대 잔액 초과는 아무것도 바꾸지 않는다
+                    }
+                }
+            }));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+
+        long total = LongStream.rangeClosed(1, users).map(userId -> pointService.getPoint(userId).point()).sum();
+        assertThat(succeeded.get()).isPositive();
+        assertThat(total).isEqualTo(users * initial);
+        // 잔액은 내역을 다시 계산한 값과 같다
+        for (long userId = 1; userId <= 10; userId++) {
+            long replayed = pointService.getHistories(userId).stream()
+                .mapToLong(history -> history.type().isCredit() ? history.amount() : -history.amount())
+                .sum();
+            assertThat(pointService.getPoint(userId).point()).isEqualTo(replayed);
+        }
+    }
+
+    private PointService pointService(PointProperties properties, Lock lock) {
+        return PointServiceFixture.of(new FastUserPointTable(), new FastPointHistoryTable(), properties, lock)
+            .pointService();
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.TddApplication;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 동시 연결 10k 에서 platform thread(Tomcat 기본 200) 와 virtual thread 요청 처리 비교 (./gradlew benchmark 로 실행)
+ * 실제 테이블(throttle 포함)을 쓰므로 요청 대부분의 시간은 sleep 대기다.
+ */
+@Tag("benchmark")
+class PointVirtualThreadBenchmark {
+    static final int CONNECTIONS = 10_000;
+
+    @Test
+    @DisplayName("서로 다른 유저 10k 명의 잔액 조회를 동시에 요청")
+    void concurrent_connections() throws Exception {
+        System.out.printf("%-9s %10s %10s %10s %8s%n", "threads", "elapsed(s)", "req/sec", "p99(ms)", "errors");
+        for (boolean virtual : new boolean[] {false, true}) {
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+                run(virtual ? "virtual" : "platform", port);
+            }
+        }
+    }
+
+    private void run(String label, int port) {
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+        long[] latencies = new long[CONNECTIONS];
+        AtomicInteger errors = new AtomicInteger();
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[CONNECTIONS];
+
+        long started = System.nanoTime();
+        for (int i = 0; i < CONNECTIONS; i++) {
+            int index = i;
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + (i + 1)))
+                .timeout(Duration.ofMinutes(2))
+                .GET()
+                .build();
+            long sent = System.nanoTime();
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, e) -> {
+                    latencies[index] = System.nanoTime() - sent;
+                    if (e != null || response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    }
+                });
+        }
+        CompletableFuture.allOf(responses).exceptionally(e -> null).join();
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        System.out.printf("%-9s %10.2f %10.0f %10.1f %8d%n",
+            label,
+            elapsed / 1e9,
+            CONNECTIONS / (elapsed / 1e9),
+            latencies[(int) (CONNECTIONS * 0.99)] / 1e6,
+            errors.get());
+    }
+
+    private ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(TddApplication.class)
+            .properties(
+                "server.port=0",
+                "server.tomcat.max-connections=" + (CONNECTIONS * 2),
+                "server.tomcat.accept-count=" + CONNECTIONS,
+                "spring.threads.virtual.enabled=" + virtual
+            )
+            .run();
+    }
+}
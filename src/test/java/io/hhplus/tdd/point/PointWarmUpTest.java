@@ -0,0 +1,136 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.common.util.LockProperties;
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PointWarmUp 잔액 미리 읽기 테스트
+ */
+class PointWarmUpTest {
+    @TempDir
+    Path directory;
+
+    PointServiceFixture fixture;
+
+    @Test
+    @DisplayName("파일의 userId 잔액을 캐시에 올리고, 빈 줄 / 주석 / 잘못된 값 / 중복은 건너뛴다")
+    void preload_users_from_file() throws Exception {
+        Path usersFile = directory.resolve("hot-users.txt");
+        Files.write(usersFile, List.of("# 최근 활동 유저", "1", "2", "", "abc", "-3", "2", "3"));
+        PointWarmUp warmUp = warmUp(usersFile, 10);
+
+        PointWarmUpStats stats = warmUp.warmUp();
+
+        assertThat(stats.finished()).isTrue();
+        assertThat(stats.users()).isEqualTo(3);
+        assertThat(warmUp.stats()).isEqualTo(stats);
+        assertThat(fixture.pointLedger().cacheStats().size()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("max-users 까지만 미리 읽는다")
+    void max_users() throws Exception {
+        Path usersFile = directory.resolve("hot-users.txt");
+        Files.write(usersFile, List.of("1", "2", "3", "4", "5"));
+
+        assertThat(warmUp(usersFile, 2).warmUp().users()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("파일이 없어도 예열은 끝난다")
+    void missing_file() {
+        PointWarmUpStats stats = warmUp(directory.resolve("missing.txt"), 10).warmUp();
+
+        assertThat(stats.finished()).isTrue();
+        assertThat(stats.users()).isZero();
+    }
+
+    @Test
+    @DisplayName("충전 / 사용 예열은 실제 유저의 잔액과 내역을 바꾸지 않는다")
+    void exercise_does_not_touch_users() throws Exception {
+        Path usersFile = directory.resolve("hot-users.txt");
+        Files.write(usersFile, List.of("1"));
+
+        warmUp(usersFile, 10).warmUp();
+
+        assertThat(fixture.pointService().getPoint(1L).point()).isZero();
+        assertThat(fixture.pointService().getHistories(1L)).isEmpty();
+        assertThat(fixture.pointMetrics().rejections().values()).allSatisfy(counter -> assertThat(counter.count()).isZero());
+    }
+
+    @Test
+    @DisplayName("모든 실행 모드에서 예열용 PointService 로 충전 / 사용을 반복하고 끝난다")
+    void exercise_every_execution_mode() throws Exception {
+        Path usersFile = directory.resolve("hot-users.txt");
+        Files.write(usersFile, List.of("1"));
+
+        for (PointExecutionMode mode : PointExecutionMode.values()) {
+            PointProperties properties = properties(usersFile, 10);
+            properties.setExecutionMode(mode);
+
+            PointWarmUpStats stats = warmUp(new FastUserPointTable(), properties).warmUp();
+
+            assertThat(stats.finished()).as(mode.name()).isTrue();
+            assertThat(fixture.pointService().getHistories(1L)).as(mode.name()).isEmpty();
+            fixture.pointShardExecutor().shutdown();
+            fixture.pointLedger().shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("테이블 조회가 느려도 max-duration 안에 예열을 끝낸다")
+    void bounded_by_max_duration() throws Exception {
+        Path usersFile = directory.resolve("hot-users.txt");
+        Files.write(usersFile, LongStream.rangeClosed(1, 50).mapToObj(String::valueOf).toList());
+        FastUserPointTable slowTable = new FastUserPointTable() {
+            @Override
+            public UserPoint selectById(Long id) {
+                try {
+                    Thread.sleep(200L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.selectById(id);
+            }
+        };
+        PointProperties properties = properties(usersFile, 100);
+        properties.getWarmUp().setParallelism(1);
+        properties.getWarmUp().setMaxDuration(Duration.ofMillis(500));
+
+        PointWarmUpStats stats = warmUp(slowTable, properties).warmUp();
+
+        assertThat(stats.finished()).isTrue();
+        assertThat(stats.users()).isLessThan(50);
+        assertThat(stats.durationMillis()).isLessThan(5_000L);
+    }
+
+    private PointWarmUp warmUp(Path usersFile, int maxUsers) {
+        return warmUp(new FastUserPointTable(), properties(usersFile, maxUsers));
+    }
+
+    private PointWarmUp warmUp(FastUserPointTable userPointTable, PointProperties properties) {
+        fixture = PointServiceFixture.of(userPointTable, new FastPointHistoryTable(), properties);
+        return new PointWarmUp(
+            fixture.pointService(), new ObjectMapper(), new LockProperties(), fixture.pointMetrics(), properties);
+    }
+
+    private PointProperties properties(Path usersFile, int maxUsers) {
+        PointProperties properties = new PointProperties();
+        properties.getWarmUp().setUsersFile(usersFile.toString());
+        properties.getWarmUp().setMaxUsers(maxUsers);
+        properties.getWarmUp().setParallelism(4);
+        properties.getWarmUp().setIterations(100);
+        return properties;
+    }
+}
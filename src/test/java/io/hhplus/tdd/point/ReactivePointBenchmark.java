@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.TddApplication;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 동시 연결 10k 에서 /point (MVC, Tomcat 기본 200 스레드) 와 /reactive/point (Mono) 충전 비교 (./gradlew benchmark 로 실행)
+ * 실제 테이블(throttle 포함)을 쓰고, 유저 1000명에게 요청을 나눠서 같은 유저의 요청이 10건씩 줄을 서게 한다.
+ * peakThreads 는 측정 구간 동안 JVM 의 최대 스레드 수
+ */
+@Tag("benchmark")
+class ReactivePointBenchmark {
+    static final int CONNECTIONS = 10_000;
+    static final int USERS = 1_000;
+
+    @Test
+    @DisplayName("유저 1000명에게 나눠진 충전 10k 건을 동시에 요청 - MVC / reactive")
+    void concurrent_charges() throws Exception {
+        System.out.printf("%-9s %10s %10s %10s %12s %8s%n",
+            "api", "elapsed(s)", "req/sec", "p99(ms)", "peakThreads", "errors");
+        for (String path : new String[] {"/point/", "/reactive/point/"}) {
+            try (ConfigurableApplicationContext context = start()) {
+                int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+                run(path.startsWith("/reactive") ? "reactive" : "mvc", port, path);
+            }
+        }
+    }
+
+    private void run(String label, int port, String path) {
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long[] latencies = new long[CONNECTIONS];
+        AtomicInteger errors = new AtomicInteger();
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[CONNECTIONS];
+
+        threads.resetPeakThreadCount();
+        long started = System.nanoTime();
+        for (int i = 0; i < CONNECTIONS; i++) {
+            int index = i;
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + path + (i % USERS + 1) + "/charge"))
+                .timeout(Duration.ofMinutes(2))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("100"))
+                .build();
+            long sent = System.nanoTime();
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, e) -> {
+                    latencies[index] = System.nanoTime() - sent;
+                    if (e != null || response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    }
+                });
+        }
+        CompletableFuture.allOf(responses).exceptionally(e -> null).join();
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        System.out.printf("%-9s %10.2f %10.0f %10.1f %12d %8d%n",
+            label,
+            elapsed / 1e9,
+            CONNECTIONS / (elapsed / 1e9),
+            latencies[(int) (CONNECTIONS * 0.99)] / 1e6,
+            threads.getPeakThreadCount(),
+            errors.get());
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(TddApplication.class)
+            .properties(
+                "server.port=0",
+                "server.tomcat.max-connections=" + (CONNECTIONS * 2),
+                "server.tomcat.accept-count=" + CONNECTIONS
+            )
+            .run();
+    }
+}
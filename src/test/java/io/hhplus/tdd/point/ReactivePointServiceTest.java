@@ -0,0 +1,112 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.common.exception.BaseException;
+import io.hhplus.tdd.common.response.ErrorCode;
+import io.hhplus.tdd.database.FastPointHistoryTable;
+import io.hhplus.tdd.database.FastUserPointTable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ReactivePointService 유저 단위 직렬화 / backpressure 테스트
+ */
+class ReactivePointServiceTest {
+    PointServiceFixture fixture;
+    ReactivePointService reactivePointService;
+
+    @BeforeEach
+    void setUp() {
+        PointProperties properties = new PointProperties();
+        properties.getReactive().setThreadCap(8);
+        fixture = PointServiceFixture.of(new FastUserPointTable(), new FastPointHistoryTable(), properties);
+        reactivePointService = new ReactivePointService(fixture.pointService(), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reactivePointService.shutdown();
+        fixture.pointShardExecutor().shutdown();
+        fixture.pointLedger().shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 유저에 동시에 1000번 충전해도 유실 없이 요청 순서대로 반영된다")
+    void serializes_per_user() {
+        int requests = 1_000;
+        List<Mono<UserPoint>> charges = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            charges.add(reactivePointService.charge(1L, 100L));
+        }
+
+        List<UserPoint> results = Flux.merge(charges).collectList().block(Duration.ofSeconds(30));
+
+        assertThat(results).hasSize(requests);
+        assertThat(fixture.pointService().getPoint(1L).point()).isEqualTo(100_000L);
+        assertThat(results).extracting(UserPoint::point).doesNotHaveDuplicates();
+        assertThat(reactivePointService.pendingUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("앞선 변경이 실패해도 다음 변경은 이어서 실행된다")
+    void failure_does_not_block_next() {
+        Mono<UserPoint> use = reactivePointService.use(1L, 1_000L);
+        Mono<UserPoint> charge = reactivePointService.charge(1L, 500L);
+
+        assertThatThrownBy(() -> use.block(Duration.ofSeconds(5)))
+            .isInstanceOf(BaseException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.POINT_BALANCE_NEGATIVE);
+        assertThat(charge.block(Duration.ofSeconds(5)).point()).isEqualTo(500L);
+        assertThat(reactivePointService.pendingUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("내역은 구독자가 요청한 만큼만 내보낸다")
+    void histories_respect_backpressure() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            fixture.pointService().charge(1L, 100L);
+        }
+        List<PointHistory> received = new CopyOnWriteArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        reactivePointService.getHistories(1L, null).subscribe(new Subscriber<>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+                s.request(3);
+            }
+
+            @Override
+            public void onNext(PointHistory history) {
+                received.add(history);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        Thread.sleep(200);
+        assertThat(received).hasSize(3);
+        subscription.get().request(Long.MAX_VALUE);
+        Thread.sleep(200);
+        assertThat(received).hasSize(10);
+    }
+}